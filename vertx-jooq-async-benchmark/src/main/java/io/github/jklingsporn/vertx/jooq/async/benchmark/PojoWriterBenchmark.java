@@ -0,0 +1,76 @@
+package io.github.jklingsporn.vertx.jooq.async.benchmark;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import generated.classic.async.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of turning a POJO into the bind values of an <code>INSERT</code>: the generated
+ * <code>PojoWriter</code>, the values of <code>toJson()</code> and a record created by jOOQ's reflective mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PojoWriterBenchmark {
+
+    private PojoWriter<Something> writer;
+    private DSLContext dslContext;
+    private Something something;
+    private int fieldCount;
+
+    @Setup
+    public void setup(){
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        writer = dao.pojoWriter();
+        dslContext = DSL.using(dao.configuration());
+        fieldCount = Tables.SOMETHING.fields().length;
+        something = new Something()
+                .setSomeid(1)
+                .setSomestring("my_string")
+                .setSomehugenumber(Long.MAX_VALUE)
+                .setSomesmallnumber((short) 1)
+                .setSomeregularnumber(Integer.MAX_VALUE)
+                .setSomedouble(1.0)
+                .setSomejsonobject(new JsonObject().put("key", "value"))
+                .setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+    }
+
+    @Benchmark
+    public Object[] pojoWriter(){
+        Object[] values = new Object[fieldCount];
+        writer.write(something, values);
+        return values;
+    }
+
+    @Benchmark
+    public Object[] toJsonValues(){
+        return something.toJson().getMap().values().toArray();
+    }
+
+    @Benchmark
+    public Object[] newRecord(){
+        return dslContext.newRecord(Tables.SOMETHING, something).intoArray();
+    }
+}
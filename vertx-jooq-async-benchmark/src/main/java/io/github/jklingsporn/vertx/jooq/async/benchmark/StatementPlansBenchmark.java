@@ -0,0 +1,107 @@
+package io.github.jklingsporn.vertx.jooq.async.benchmark;
+
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares what the clients do before sending <code>findById</code>, <code>deleteById</code> and <code>count</code>:
+ * creating the query, getting its SQL and its bind values. The SQL is either rendered by jOOQ on every call, taken
+ * from the <code>SQLRenderCache</code> or taken from the <code>StatementPlans</code> of the generated DAO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementPlansBenchmark {
+
+    private static final Integer ID = 1;
+
+    private SomethingDao dao;
+    private StatementPlans plans;
+    private SQLRenderCache renderCache;
+
+    @Setup
+    public void setup(){
+        dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        plans = dao.statementPlans();
+        renderCache = new SQLRenderCache(SQLRenderCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Benchmark
+    public void findByIdRendered(Blackhole blackhole){
+        rendered(VertxDAOHelper.fetchOneByIdAsync(ID, dao, null, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void findByIdCached(Blackhole blackhole){
+        cached(VertxDAOHelper.fetchOneByIdAsync(ID, dao, null, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void findByIdPlanned(Blackhole blackhole){
+        cached(VertxDAOHelper.fetchOneByIdAsync(ID, dao, plans, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void deleteByIdRendered(Blackhole blackhole){
+        rendered(VertxDAOHelper.deleteByIdAsync(ID, dao, null, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void deleteByIdCached(Blackhole blackhole){
+        cached(VertxDAOHelper.deleteByIdAsync(ID, dao, null, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void deleteByIdPlanned(Blackhole blackhole){
+        cached(VertxDAOHelper.deleteByIdAsync(ID, dao, plans, q -> q), blackhole);
+    }
+
+    @Benchmark
+    public void countRendered(Blackhole blackhole){
+        rendered(VertxDAOHelper.countAsync(dao, null, (q, mapper) -> q), blackhole);
+    }
+
+    @Benchmark
+    public void countCached(Blackhole blackhole){
+        cached(VertxDAOHelper.countAsync(dao, null, (q, mapper) -> q), blackhole);
+    }
+
+    @Benchmark
+    public void countPlanned(Blackhole blackhole){
+        cached(VertxDAOHelper.countAsync(dao, plans, (q, mapper) -> q), blackhole);
+    }
+
+    private static void rendered(Query query, Blackhole blackhole){
+        blackhole.consume(query.getSQL());
+        blackhole.consume(query.getParams());
+    }
+
+    /**
+     * Like the clients, which pass every query through the cache. Planned queries bypass it.
+     */
+    private void cached(Query query, Blackhole blackhole){
+        blackhole.consume(renderCache.getSQL(query));
+        blackhole.consume(query.getParams());
+    }
+}
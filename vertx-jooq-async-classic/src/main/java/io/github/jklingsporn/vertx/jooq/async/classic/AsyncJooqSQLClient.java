@@ -2,9 +2,11 @@ package io.github.jklingsporn.vertx.jooq.async.classic;
 
 import io.github.jklingsporn.vertx.jooq.async.classic.impl.AsyncJooqSQLClientImpl;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import org.jooq.Query;
 
@@ -37,6 +39,17 @@ public interface AsyncJooqSQLClient {
      */
     <P> void fetchOne(Query query, Function<JsonObject, P> mapper, Handler<AsyncResult<P>> resultHandler);
 
+    /**
+     * Streams the results of a query instead of collecting them into a list, e.g. to <code>Pump</code> them into
+     * a <code>HttpServerResponse</code>. The stream holds a connection until it ends, fails or its handler is
+     * reset to <code>null</code>.
+     * @param query a jOOQ-query
+     * @param mapper a function to map the result into another object.
+     * @param resultHandler A Handler containing a <code>ReadStream</code> of the results, each converted by the mapper.
+     * @param <P> the type to fetch
+     */
+    <P> void fetchStream(Query query, Function<JsonObject, P> mapper, Handler<AsyncResult<ReadStream<P>>> resultHandler);
+
     /**
      * @param query a jOOQ-query
      * @param resultHandler A Handler containing the number of affected rows by this query.
@@ -49,6 +62,44 @@ public interface AsyncJooqSQLClient {
      */
     void insertReturning(Query query, Handler<AsyncResult<Long>> resultHandler);
 
+    /**
+     * Runs a multi-row insert and computes the ids generated by MySQL. The ids of a multi-row insert are consecutive,
+     * so they are derived from the first inserted id and the <code>auto_increment_increment</code> of the connection.
+     * @param query a jooq-query inserting rows whose ids are all generated by the database
+     * @param resultHandler A Handler containing the ids of the inserted rows in the order of the rows
+     */
+    void insertReturningKeys(Query query, Handler<AsyncResult<List<Long>>> resultHandler);
+
+    /**
+     * Executes all queries of the given function on the same connection. DAOs that should use the connection
+     * need to be created with the client passed to the function.
+     * @param function a function that runs queries with the passed client and returns a Future that completes
+     *                 when all queries are done.
+     * @param resultHandler A Handler containing the result of the Future returned by the function. The connection
+     *                      has been released when the Handler is called.
+     * @param <T> the result type
+     */
+    <T> void withConnection(Function<AsyncJooqSQLClient, Future<T>> function, Handler<AsyncResult<T>> resultHandler);
+
+    /**
+     * Executes all queries of the given function in a transaction on the same connection. The transaction is
+     * committed when the Future returned by the function succeeds, otherwise it is rolled back. Calling this method
+     * on a client that is already part of a transaction executes the function in the existing transaction.
+     * @param function a function that runs queries with the passed client and returns a Future that completes
+     *                 when all queries are done.
+     * @param resultHandler A Handler containing the result of the Future returned by the function or the exception
+     *                      that failed the function or the commit.
+     * @param <T> the result type
+     */
+    <T> void withTransaction(Function<AsyncJooqSQLClient, Future<T>> function, Handler<AsyncResult<T>> resultHandler);
+
+    /**
+     * @return whether all queries of this client are executed on the same connection, which is the case for the
+     * clients passed to the functions of <code>withConnection</code> and <code>withTransaction</code>. A connection
+     * executes one query at a time, so such a client must not be used by concurrent queries.
+     */
+    boolean isConnectionBound();
+
     /**
      * @return the underlying client
      */
@@ -1,19 +1,31 @@
 package io.github.jklingsporn.vertx.jooq.async.classic;
 
+import io.github.jklingsporn.vertx.jooq.async.shared.Page;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
 import io.github.jklingsporn.vertx.jooq.async.shared.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.ConcurrentExecution;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 21.10.16.
@@ -34,6 +46,30 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      */
     Function<JsonObject, P> jsonMapper();
 
+    /**
+     * @return the SQL of the primary key based operations rendered by the code generator or <code>null</code>
+     * if the queries should be built by jOOQ on every call. Generated DAOs overwrite this method.
+     */
+    default StatementPlans statementPlans(){
+        return null;
+    }
+
+    /**
+     * @return a writer of the bind values of a POJO or <code>null</code> if the POJO should be copied into a
+     * <code>Record</code> instead. Generated DAOs overwrite this method.
+     */
+    default PojoWriter<P> pojoWriter(){
+        return null;
+    }
+
+    /**
+     * @return a copier of a POJO into a <code>Record</code> or <code>null</code> if jOOQ's reflective record
+     * mapping should be used. Generated DAOs overwrite this method.
+     */
+    default RecordCopier<P,R> recordCopier(){
+        return null;
+    }
+
     /**
      * Checks if a given ID exists asynchronously
      *
@@ -43,12 +79,23 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #existsById(Object)
      */
     default void existsByIdAsync(T id, Handler<AsyncResult<Boolean>> resultHandler){
-        findByIdAsync(id, h -> {
-            if (h.succeeded()) {
-                resultHandler.handle(Future.succeededFuture(h.result() != null));
-            }else{
-                resultHandler.handle(Future.failedFuture(h.cause()));
-            }
+        VertxDAOHelper.existsByIdAsync(id, this, query -> {
+            client().fetch(query, json -> Boolean.TRUE, h -> resultHandler.handle(h.map(rows -> !rows.isEmpty())));
+            return null;
+        });
+    }
+
+    /**
+     * Checks if a record matching the given condition exists asynchronously. The record is not fetched.
+     *
+     * @param condition the condition to match
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void existsAsync(Condition condition, Handler<AsyncResult<Boolean>> resultHandler){
+        VertxDAOHelper.existsAsync(condition, this, query -> {
+            client().fetch(query, json -> Boolean.TRUE, h -> resultHandler.handle(h.map(rows -> !rows.isEmpty())));
+            return null;
         });
     }
 
@@ -59,7 +106,7 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #count()
      */
     default void countAsync(Handler<AsyncResult<Long>> resultHandler){
-        VertxDAOHelper.countAsync(this, (query,mapper)->{
+        VertxDAOHelper.countAsync(this, statementPlans(), (query,mapper)->{
             client().fetchOne(query,mapper, h -> {
                 if (h.succeeded()) {
                     resultHandler.handle(Future.succeededFuture((Long) h.result().get()));
@@ -71,6 +118,49 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
         });
     }
 
+    /**
+     * Count the records matching the given condition asynchronously.
+     * @param condition the condition to count the records
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void countAsync(Condition condition, Handler<AsyncResult<Long>> resultHandler){
+        VertxDAOHelper.countAsync(condition, this, (query,mapper)->{
+            client().fetchOne(query,mapper, h -> resultHandler.handle(h.map(opt -> ((Number) opt.get()).longValue())));
+            return null;
+        });
+    }
+
+    /**
+     * Estimate the number of records of the underlying table asynchronously from the statistics of the database
+     * catalog instead of scanning the table. The estimate is cached per table and configuration for
+     * <code>DAOSettings#getApproxCountTtlMillis</code>. If the catalog has no statistics of the table or the estimate
+     * is below <code>DAOSettings#getExactCountThreshold</code>, the records are counted exactly like
+     * {@link #countAsync(Handler)}. Only supported on MySQL and Postgres.
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void countApproxAsync(Handler<AsyncResult<Long>> resultHandler){
+        Long cached = VertxDAOHelper.cachedApproxCount(this);
+        if(cached != null){
+            resultHandler.handle(Future.succeededFuture(cached));
+            return;
+        }
+        Handler<AsyncResult<Long>> caching = h -> resultHandler.handle(h.map(count -> VertxDAOHelper.cacheApproxCount(this, count)));
+        VertxDAOHelper.countApproxAsync(this, (query, mapper) -> {
+            client().fetchOne(query, mapper, h -> {
+                if(h.failed()){
+                    resultHandler.handle(Future.failedFuture(h.cause()));
+                }else if(VertxDAOHelper.requiresExactCount(this, h.result())){
+                    countAsync(caching);
+                }else{
+                    caching.handle(Future.succeededFuture(h.result().get()));
+                }
+            });
+            return null;
+        });
+    }
+
     /**
      * Find all records of the underlying table asynchronously.
      * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
@@ -90,8 +180,28 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #findById(Object)
      */
     default void findByIdAsync(T id, Handler<AsyncResult<P>> resultHandler){
-        VertxDAOHelper.applyConditionally(id, getTable(), condition -> {
-            fetchOneAsync(condition, resultHandler);
+        VertxDAOHelper.fetchOneByIdAsync(id, this, statementPlans(), query -> {
+            client().fetchOne(query, jsonMapper(), resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Find the records of the underlying table by their IDs asynchronously using a single query.
+     *
+     * @param ids The IDs of the records in the underlying table. Composite keys are given as <code>Record</code>.
+     * @param resultHandler the resultHandler which succeeds with the records keyed by their ID or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception.
+     *                      IDs without a record are missing in the map.
+     * @see #findById(Object)
+     */
+    default void findByIdsAsync(Collection<T> ids, Handler<AsyncResult<Map<T,P>>> resultHandler){
+        if(ids.isEmpty()){
+            resultHandler.handle(Future.succeededFuture(new HashMap<>()));
+            return;
+        }
+        VertxDAOHelper.fetchByIdsAsync(ids, this, recordCopier(), (query, byId) -> {
+            client().fetch(query, jsonMapper(), res -> resultHandler.handle(res.map(byId)));
             return null;
         });
     }
@@ -118,7 +228,10 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @param <Z> the value type
      */
     default <Z> void fetchOneAsync(Condition condition, Handler<AsyncResult<P>> resultHandler){
-        client().fetchOne(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper(),resultHandler);
+        VertxDAOHelper.fetchOneAsync(condition, this, query -> {
+            client().fetchOne(query, jsonMapper(), resultHandler);
+            return null;
+        });
     }
 
 
@@ -146,13 +259,24 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * Find records by a given field and a set of values asynchronously.
      *
      * @param field The field to compare values against
-     * @param values The accepted values
+     * @param values The accepted values. Large collections are fetched in chunks of distinct values concurrently
+     *               according to the <code>DAOSettings</code> of this DAO's configuration. If the client of this DAO
+     *               is bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *               chunks are fetched one after another.
      * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      * @param <Z> the value type
      */
     default <Z> void fetchAsync(Field<Z> field, Collection<Z> values, Handler<AsyncResult<List<P>>> resultHandler){
-        fetchAsync(field.in(values),resultHandler);
+        VertxDAOHelper.fetchInAsync(field, values, this, (queries, parallelism) -> {
+            if(queries.size() == 1){
+                client().fetch(queries.get(0), jsonMapper(), resultHandler);
+                return null;
+            }
+            ConcurrentExecution.<Query,List<P>>execute(queries, client().isConnectionBound() ? 1 : parallelism, (query, chunkHandler) -> client().fetch(query, jsonMapper(), chunkHandler),
+                    res -> resultHandler.handle(res.map(chunks -> chunks.stream().flatMap(List::stream).collect(Collectors.toList()))));
+            return null;
+        });
     }
 
     /**
@@ -166,6 +290,182 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
         client().fetch(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper(),resultHandler);
     }
 
+    /**
+     * Find a page of records by a given condition asynchronously. Instead of skipping the records of the previous pages
+     * with an offset, only records ordered after the given key are fetched (keyset pagination), so each page costs
+     * the same no matter how deep it is. The order fields should be unique, e.g. end with the primary key.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param afterKey the values of the order fields of the last record of the previous page or <code>null</code> to
+     *                 fetch the first page
+     * @param limit the maximum number of records of the page
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void fetchPageAsync(Condition condition, List<? extends SortField<?>> orderFields, Object[] afterKey, int limit, Handler<AsyncResult<List<P>>> resultHandler){
+        VertxDAOHelper.fetchPageAsync(condition, orderFields, afterKey, limit, this, query -> {
+            client().fetch(query, jsonMapper(), resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Find a page of records by a given condition ordered by their primary key asynchronously.
+     *
+     * @param condition the condition to fetch the values
+     * @param afterId the ID of the last record of the previous page or <code>null</code> to fetch the first page
+     * @param limit the maximum number of records of the page
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     * @see #fetchPageAsync(Condition, List, Object[], int, Handler)
+     */
+    default void fetchPageAsync(Condition condition, T afterId, int limit, Handler<AsyncResult<List<P>>> resultHandler){
+        VertxDAOHelper.fetchPageAsync(condition, afterId, limit, this, query -> {
+            client().fetch(query, jsonMapper(), resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Find a page of records by a given condition together with the total number of records matching the condition
+     * asynchronously. The total is selected by the same statement using <code>COUNT(*) OVER()</code> on Postgres and
+     * MySQL 8. On other MySQL dialects and MariaDB the statement is followed by <code>SELECT FOUND_ROWS()</code> on
+     * the same connection. Other dialects are not supported and fail with an <code>UnsupportedOperationException</code>.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param limit the maximum number of records of the page
+     * @param offset the number of records to skip
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void fetchPageWithTotalAsync(Condition condition, List<? extends SortField<?>> orderFields, int limit, int offset, Handler<AsyncResult<Page<P>>> resultHandler){
+        try{
+            VertxDAOHelper.fetchPageWithTotalAsync(condition, orderFields, limit, offset, this, (query, totalQuery) -> {
+                client().withConnection(connection -> {
+                    Future<Page<P>> page = Future.future();
+                    connection.fetch(query, Function.identity(), rows -> {
+                        if(rows.failed()){
+                            page.fail(rows.cause());
+                            return;
+                        }
+                        Query total = totalQuery.apply(rows.result());
+                        if(total == null){
+                            page.complete(VertxDAOHelper.toPage(rows.result(), null, jsonMapper()));
+                        }else{
+                            connection.fetchOne(total, Function.identity(), h -> page.handle(h.map(json -> VertxDAOHelper.toPage(rows.result(), json, jsonMapper()))));
+                        }
+                    });
+                    return page;
+                }, resultHandler);
+                return null;
+            });
+        }catch(UnsupportedOperationException e){
+            resultHandler.handle(Future.failedFuture(e));
+        }
+    }
+
+    /**
+     * Scans all records matching the given condition in primary key order and passes them in chunks to the
+     * <code>chunkConsumer</code>. Each chunk is fetched by its own query seeking after the primary key of the last
+     * record of the previous chunk, so neither the whole result is held in memory nor a cursor is held open during
+     * the scan. The next chunk is only fetched when the consumer has completed the handler passed with the previous one.
+     *
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @param chunkConsumer consumes a chunk of records and completes the passed handler when it is done
+     * @param resultHandler the resultHandler which succeeds when all chunks have been consumed or fails with the first
+     *                      exception of a query or the <code>chunkConsumer</code>.
+     */
+    default void scanAsync(int batchSize, Condition condition, BiConsumer<List<P>, Handler<AsyncResult<Void>>> chunkConsumer, Handler<AsyncResult<Void>> resultHandler){
+        new Handler<Object[]>() {
+            @Override
+            public void handle(Object[] afterKey) {
+                Handler<Object[]> next = this;
+                VertxDAOHelper.scanAsync(condition, afterKey, batchSize, VertxDAO.this, recordCopier(), (query, lastKey) -> {
+                    client().fetch(query, jsonMapper(), h -> {
+                        if(h.failed()){
+                            resultHandler.handle(Future.failedFuture(h.cause()));
+                        }else if(h.result().isEmpty()){
+                            resultHandler.handle(Future.succeededFuture());
+                        }else{
+                            List<P> chunk = h.result();
+                            chunkConsumer.accept(chunk, consumed -> {
+                                if(consumed.failed() || chunk.size() < batchSize){
+                                    resultHandler.handle(consumed);
+                                }else{
+                                    next.handle(lastKey.apply(chunk));
+                                }
+                            });
+                        }
+                    });
+                    return null;
+                });
+            }
+        }.handle(null);
+    }
+
+    /**
+     * Splits the records matching the given condition into partitions by the range of their primary key. Each
+     * partition can be scanned on its own, e.g. with {@link #scanAsync(int, Condition, BiConsumer, Handler)}. Only
+     * tables with a single integral primary key can be partitioned.
+     *
+     * @param partitions the maximum number of partitions
+     * @param condition the condition to fetch the values
+     * @param resultHandler the resultHandler which succeeds with a condition per partition or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default void partitionAsync(int partitions, Condition condition, Handler<AsyncResult<List<Condition>>> resultHandler){
+        VertxDAOHelper.partitionAsync(condition, partitions, this, (query, splitter) -> {
+            client().fetchOne(query, splitter, resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Scans the records matching the given condition in partitions of their primary key range concurrently. Each
+     * partition is scanned like {@link #scanAsync(int, Condition, BiConsumer, Handler)}, so up to
+     * <code>parallelism</code> connections of the pool are used at the same time. Chunks of different partitions
+     * are passed to the <code>chunkConsumer</code> concurrently.
+     *
+     * @param partitions the maximum number of partitions
+     * @param parallelism the maximum number of partitions scanned at the same time. If the client of this DAO is
+     *                    bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *                    partitions are scanned one after another.
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @param chunkConsumer consumes a chunk of records and completes the passed handler when it is done
+     * @param resultHandler the resultHandler which succeeds when all partitions have been consumed or fails with the
+     *                      first exception of a query or the <code>chunkConsumer</code>.
+     * @see #partitionAsync(int, Condition, Handler)
+     */
+    default void scanPartitionedAsync(int partitions, int parallelism, int batchSize, Condition condition,
+                                      BiConsumer<List<P>, Handler<AsyncResult<Void>>> chunkConsumer, Handler<AsyncResult<Void>> resultHandler){
+        partitionAsync(partitions, condition, h -> {
+            if(h.failed()){
+                resultHandler.handle(Future.failedFuture(h.cause()));
+            }else{
+                ConcurrentExecution.<Condition,Void>execute(h.result(), client().isConnectionBound() ? 1 : parallelism,
+                        (partition, partitionHandler) -> scanAsync(batchSize, partition, chunkConsumer, partitionHandler),
+                        res -> resultHandler.handle(res.mapEmpty()));
+            }
+        });
+    }
+
+    /**
+     * Streams records by a given condition. In contrast to {@link #fetchAsync(Condition, Handler)} the records are
+     * not collected into a list. The stream holds a connection until it ends, fails or its handler is reset
+     * to <code>null</code>.
+     *
+     * @param condition the condition to fetch the values
+     * @param resultHandler the resultHandler which succeeds with a <code>ReadStream</code> of the records or fails
+     *                      with an exception if the query could not be executed.
+     */
+    default void fetchStreamAsync(Condition condition, Handler<AsyncResult<ReadStream<P>>> resultHandler){
+        client().fetchStream(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper(), resultHandler);
+    }
+
     /**
      * Performs an async <code>DELETE</code> statement for a given key and passes the number of affected rows
      * to the <code>resultHandler</code>.
@@ -174,8 +474,8 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default void deleteExecAsync(T id, Handler<AsyncResult<Integer>> resultHandler){
-        VertxDAOHelper.applyConditionally(id, getTable(), condition -> {
-            deleteExecAsync(condition, resultHandler);
+        VertxDAOHelper.deleteByIdAsync(id, this, statementPlans(), query -> {
+            client().execute(query, resultHandler);
             return null;
         });
     }
@@ -208,14 +508,20 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
     /**
      * Performs an async <code>UPDATE</code> statement for a given POJO and passes the number of affected rows
      * to the <code>resultHandler</code>.
+     * If the POJO tracks its changes, they are reset after a successful update.
      * @param object The POJO to be updated
      * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     @SuppressWarnings("unchecked")
     default void updateExecAsync(P object, Handler<AsyncResult<Integer>> resultHandler){
-        VertxDAOHelper.updateExecAsync(object, this, query -> {
-            client().execute(query, resultHandler);
+        VertxDAOHelper.updateExecAsync(object, this, recordCopier(), query -> {
+            client().execute(query, res -> {
+                if(res.succeeded()){
+                    object.resetChanges();
+                }
+                resultHandler.handle(res);
+            });
             return null;
         });
     }
@@ -228,22 +534,109 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default void insertExecAsync(P object, Handler<AsyncResult<Integer>> resultHandler){
-        VertxDAOHelper.insertExecAsync(object, this, query -> {
+        VertxDAOHelper.insertExecAsync(object, this, pojoWriter(), query -> {
+            client().execute(query,resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs and passes the number of
+     * affected rows to the <code>resultHandler</code>. The POJOs are split into several statements according to the
+     * <code>DAOSettings</code> of this DAO's configuration which are executed one after another in a transaction, so
+     * either all POJOs are inserted or none. When the client already is in a transaction, the statements join it.
+     * @param objects The POJOs to be inserted
+     * @param resultHandler the resultHandler which succeeds when all statements succeed or fails
+     *                      with the exception of the first failing statement
+     */
+    default void insertExecAsync(Collection<P> objects, Handler<AsyncResult<Integer>> resultHandler){
+        VertxDAOHelper.insertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                resultHandler.handle(Future.succeededFuture(0));
+                return null;
+            }
+            Function<AsyncJooqSQLClient, Future<Integer>> insertAll = client -> {
+                Future<Integer> inserted = Future.succeededFuture(0);
+                for (Query query : queries) {
+                    inserted = inserted.compose(sum -> {
+                        Future<Integer> execute = Future.future();
+                        client.execute(query, execute);
+                        return execute.map(rows -> sum + rows);
+                    });
+                }
+                return inserted;
+            };
+            if(queries.size() > 1){
+                client().withTransaction(insertAll, resultHandler);
+            }else{
+                client().withConnection(insertAll, resultHandler);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Performs an async <code>INSERT</code> statement for a given POJO that updates the existing row instead if a row
+     * with the same primary key exists. It is executed as <code>INSERT ... ON DUPLICATE KEY UPDATE</code> on MySQL
+     * and as <code>INSERT ... ON CONFLICT ... DO UPDATE</code> on Postgres. The number of affected rows is passed to
+     * the <code>resultHandler</code>. Note that MySQL counts an updated row twice.
+     * @param object The POJO to be inserted or updated
+     * @param resultHandler the resultHandler which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default void upsertExecAsync(P object, Handler<AsyncResult<Integer>> resultHandler){
+        VertxDAOHelper.upsertExecAsync(object, this, pojoWriter(), query -> {
             client().execute(query,resultHandler);
             return null;
         });
     }
 
+    /**
+     * Performs async multi-row upserts like {@link #upsertExecAsync(Object, Handler)} for the given POJOs. The POJOs
+     * are split into several statements which run in a transaction like {@link #insertExecAsync(Collection, Handler)}.
+     * @param objects The POJOs to be inserted or updated
+     * @param resultHandler the resultHandler which succeeds when all statements succeed or fails
+     *                      with the exception of the first failing statement
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default void upsertExecAsync(Collection<P> objects, Handler<AsyncResult<Integer>> resultHandler){
+        VertxDAOHelper.upsertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                resultHandler.handle(Future.succeededFuture(0));
+                return null;
+            }
+            Function<AsyncJooqSQLClient, Future<Integer>> upsertAll = client -> {
+                Future<Integer> upserted = Future.succeededFuture(0);
+                for (Query query : queries) {
+                    upserted = upserted.compose(sum -> {
+                        Future<Integer> execute = Future.future();
+                        client.execute(query, execute);
+                        return execute.map(rows -> sum + rows);
+                    });
+                }
+                return upserted;
+            };
+            if(queries.size() > 1){
+                client().withTransaction(upsertAll, resultHandler);
+            }else{
+                client().withConnection(upsertAll, resultHandler);
+            }
+            return null;
+        });
+    }
+
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO and passes the primary key
      * to the <code>resultHandler</code>. When the value could not be inserted, the <code>resultHandler</code>
-     * will fail.
+     * will fail. On Postgres the key is returned by the <code>INSERT</code> using <code>RETURNING</code>, so keys of
+     * any type and composite keys are supported. On MySQL the last generated id is used.
      * @param object The POJO to be inserted
-     * @param resultHandler the resultHandler. In case of Postgres or when PK length is greater 1 or PK is not of
-     *                      type int or long, the resultHandler will be in error state.
+     * @param resultHandler the resultHandler.
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
      */
     default void insertReturningPrimaryAsync(P object, Handler<AsyncResult<T>> resultHandler){
-        VertxDAOHelper.insertReturningPrimaryAsync(object,this, (query,fun)->{
+        VertxDAOHelper.insertReturningPrimaryAsync(object, this, recordCopier(), (query,fun)->{
             client().insertReturning(query,res -> {
                 if (res.failed()) {
                     resultHandler.handle(Future.failedFuture(res.cause()));
@@ -252,6 +645,70 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
                 }
             });
             return null;
+        }, (query,mapper)->{
+            client().fetchOne(query, mapper, resultHandler);
+            return null;
+        });
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs like
+     * <code>insertExecAsync(Collection)</code> and passes the primary keys of the inserted rows in the order of the
+     * POJOs. Like there, several statements run in a transaction. The statements use bound parameters. On Postgres the keys are returned by the statements using
+     * <code>RETURNING</code>. On MySQL they are computed from the first generated id and the
+     * <code>auto_increment_increment</code>, so all keys have to be generated by the database.
+     * @param objects The POJOs to be inserted
+     * @param resultHandler the resultHandler.
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
+     * @throws IllegalArgumentException on MySQL, if a POJO contains a primary key
+     */
+    default void insertReturningPrimaryAsync(Collection<P> objects, Handler<AsyncResult<List<T>>> resultHandler){
+        BiFunction<List<Query>, BiFunction<AsyncJooqSQLClient, Query, Future<List<T>>>, Void> insertAll = (queries, insert) -> {
+            if(queries.isEmpty()){
+                resultHandler.handle(Future.succeededFuture(new ArrayList<>()));
+                return null;
+            }
+            Function<AsyncJooqSQLClient, Future<List<T>>> insertChunks = client -> {
+                Future<List<T>> keys = Future.succeededFuture(new ArrayList<>());
+                for (Query query : queries) {
+                    keys = keys.compose(all -> insert.apply(client, query).map(chunk -> {
+                        all.addAll(chunk);
+                        return all;
+                    }));
+                }
+                return keys;
+            };
+            if(queries.size() > 1){
+                client().withTransaction(insertChunks, resultHandler);
+            }else{
+                client().withConnection(insertChunks, resultHandler);
+            }
+            return null;
+        };
+        VertxDAOHelper.insertReturningPrimaryAsync(objects, this, pojoWriter(),
+                (queries, keyConverter) -> insertAll.apply(queries, (client, query) -> {
+                    Future<List<Long>> ids = Future.future();
+                    client.insertReturningKeys(query, ids);
+                    return ids.map(l -> l.stream().map(keyConverter).collect(Collectors.toList()));
+                }),
+                (queries, mapper) -> insertAll.apply(queries, (client, query) -> {
+                    Future<List<T>> keys = Future.future();
+                    client.fetch(query, mapper, keys);
+                    return keys;
+                }));
+    }
+
+    /**
+     * Performs an async <code>INSERT ... RETURNING</code> statement for a given POJO and passes the inserted row,
+     * including all values generated by the database, to the <code>resultHandler</code>.
+     * @param object The POJO to be inserted
+     * @param resultHandler the resultHandler.
+     * @throws UnsupportedOperationException if the dialect does not support <code>RETURNING</code>, e.g. MySQL
+     */
+    default void insertReturningAsync(P object, Handler<AsyncResult<P>> resultHandler){
+        VertxDAOHelper.insertReturningAsync(object, this, recordCopier(), query -> {
+            client().fetchOne(query, jsonMapper(), resultHandler);
+            return null;
         });
     }
 
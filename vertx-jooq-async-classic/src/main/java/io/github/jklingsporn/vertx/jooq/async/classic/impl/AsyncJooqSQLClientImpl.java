@@ -1,6 +1,9 @@
 package io.github.jklingsporn.vertx.jooq.async.classic.impl;
 
 import io.github.jklingsporn.vertx.jooq.async.classic.AsyncJooqSQLClient;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.GeneratedKeys;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.RowMappers;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -9,19 +12,19 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLRowStream;
 import io.vertx.ext.sql.UpdateResult;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.conf.ParamType;
-import org.jooq.exception.TooManyRowsException;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 13.06.17.
@@ -32,10 +35,28 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
 
     private final Vertx vertx;
     private final AsyncSQLClient delegate;
+    private final SQLRenderCache renderCache;
+    /**
+     * The connection all queries are executed on or <code>null</code> if a connection is obtained from the pool
+     * for each query.
+     */
+    private final SQLConnection connection;
+    private final boolean transaction;
 
     public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate) {
+        this(vertx, delegate, SQLRenderCache.getInstance());
+    }
+
+    public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache) {
+        this(vertx, delegate, renderCache, null, false);
+    }
+
+    private AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache, SQLConnection connection, boolean transaction) {
         this.vertx = vertx;
         this.delegate = delegate;
+        this.renderCache = renderCache;
+        this.connection = connection;
+        this.transaction = transaction;
     }
 
     @Override
@@ -44,9 +65,9 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
             if(sqlConnectionResult.succeeded()){
                 log("Fetch", ()-> query.getSQL(ParamType.INLINED));
                 sqlConnectionResult.result().queryWithParams(
-                        query.getSQL(),
+                        renderCache.getSQL(query),
                         getBindValues(query),
-                        executeAndClose(rs -> rs.getRows().stream().map(mapper).collect(Collectors.toList()), sqlConnectionResult.result(), resultHandler)
+                        executeAndClose(rs -> RowMappers.map(rs, mapper), sqlConnectionResult.result(), resultHandler)
                 );
             }else{
                 resultHandler.handle(Future.failedFuture(sqlConnectionResult.cause()));
@@ -60,15 +81,9 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
             if(sqlConnectionResult.succeeded()){
                 log("Fetch one", ()-> query.getSQL(ParamType.INLINED));
                 sqlConnectionResult.result().queryWithParams(
-                        query.getSQL(),
+                        renderCache.getSQL(query),
                         getBindValues(query),
-                        executeAndClose(rs -> {
-                                    if(rs.getRows().size() > 1){
-                                        throw new TooManyRowsException(String.format("Got more than one row: %d",rs.getRows().size()));
-                                    }
-                                    Optional<P> optional = rs.getRows().stream().findFirst().map(mapper);
-                                    return (optional.orElseGet(() -> null));
-                                },
+                        executeAndClose(rs -> RowMappers.mapOne(rs, mapper),
                                 sqlConnectionResult.result(),
                                 resultHandler)
                 );
@@ -78,13 +93,38 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         });
     }
 
+    @Override
+    public <P> void fetchStream(Query query, Function<JsonObject, P> mapper, Handler<AsyncResult<ReadStream<P>>> resultHandler) {
+        getConnection().setHandler(sqlConnectionResult->{
+            if(sqlConnectionResult.succeeded()){
+                log("Fetch stream", ()-> query.getSQL(ParamType.INLINED));
+                SQLConnection sqlConnection = sqlConnectionResult.result();
+                sqlConnection.queryStreamWithParams(
+                        renderCache.getSQL(query),
+                        getBindValues(query),
+                        rowStreamResult -> {
+                            if(rowStreamResult.succeeded()){
+                                SQLRowStream rowStream = rowStreamResult.result();
+                                resultHandler.handle(Future.succeededFuture(new MappedRowStream<>(rowStream, RowMappers.forColumns(rowStream.columns(), mapper), () -> release(sqlConnection))));
+                            }else{
+                                release(sqlConnection);
+                                resultHandler.handle(Future.failedFuture(rowStreamResult.cause()));
+                            }
+                        }
+                );
+            }else{
+                resultHandler.handle(Future.failedFuture(sqlConnectionResult.cause()));
+            }
+        });
+    }
+
     @Override
     public void execute(Query query, Handler<AsyncResult<Integer>> resultHandler) {
         getConnection().setHandler(sqlConnectionResult->{
             if(sqlConnectionResult.succeeded()){
                 log("Execute", ()-> query.getSQL(ParamType.INLINED));
                 sqlConnectionResult.result().updateWithParams(
-                        query.getSQL(),
+                        renderCache.getSQL(query),
                         getBindValues(query),
                         executeAndClose(UpdateResult::getUpdated,
                                 sqlConnectionResult.result(),
@@ -101,8 +141,9 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         getConnection().setHandler(sqlConnectionResult->{
             if(sqlConnectionResult.succeeded()){
                 log("Insert Returning", ()-> query.getSQL(ParamType.INLINED));
-                sqlConnectionResult.result().update(
-                        query.getSQL(ParamType.INLINED),
+                sqlConnectionResult.result().updateWithParams(
+                        renderCache.getSQL(query),
+                        getBindValues(query),
                         executeAndClose(res -> res.getKeys().getLong(0),
                                 sqlConnectionResult.result(),
                                 resultHandler)
@@ -113,6 +154,106 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         });
     }
 
+    @Override
+    public void insertReturningKeys(Query query, Handler<AsyncResult<List<Long>>> resultHandler) {
+        getConnection().setHandler(sqlConnectionResult->{
+            if(sqlConnectionResult.succeeded()){
+                log("Insert Returning Keys", ()-> query.getSQL(ParamType.INLINED));
+                SQLConnection sqlConnection = sqlConnectionResult.result();
+                sqlConnection.updateWithParams(renderCache.getSQL(query), getBindValues(query), updateResult -> {
+                    if(updateResult.failed()){
+                        release(sqlConnection);
+                        resultHandler.handle(Future.failedFuture(updateResult.cause()));
+                        return;
+                    }
+                    //the step is a session variable, so it has to be read from the same connection
+                    sqlConnection.query(GeneratedKeys.AUTO_INCREMENT_INCREMENT, executeAndClose(
+                            step -> GeneratedKeys.of(updateResult.result(), step),
+                            sqlConnection,
+                            resultHandler));
+                });
+            }else{
+                resultHandler.handle(Future.failedFuture(sqlConnectionResult.cause()));
+            }
+        });
+    }
+
+    @Override
+    public <T> void withConnection(Function<AsyncJooqSQLClient, Future<T>> function, Handler<AsyncResult<T>> resultHandler) {
+        if(connection != null){
+            apply(function, this, resultHandler);
+            return;
+        }
+        getConnection().setHandler(sqlConnectionResult->{
+            if(sqlConnectionResult.succeeded()){
+                SQLConnection sqlConnection = sqlConnectionResult.result();
+                apply(function, new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, false), res -> {
+                    release(sqlConnection);
+                    resultHandler.handle(res);
+                });
+            }else{
+                resultHandler.handle(Future.failedFuture(sqlConnectionResult.cause()));
+            }
+        });
+    }
+
+    @Override
+    public <T> void withTransaction(Function<AsyncJooqSQLClient, Future<T>> function, Handler<AsyncResult<T>> resultHandler) {
+        if(transaction){
+            apply(function, this, resultHandler);
+            return;
+        }
+        getConnection().setHandler(sqlConnectionResult->{
+            if(sqlConnectionResult.succeeded()){
+                SQLConnection sqlConnection = sqlConnectionResult.result();
+                sqlConnection.setAutoCommit(false, autoCommitResult -> {
+                    if(autoCommitResult.failed()){
+                        release(sqlConnection);
+                        resultHandler.handle(Future.failedFuture(autoCommitResult.cause()));
+                        return;
+                    }
+                    apply(function, new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, true), res -> {
+                        Handler<AsyncResult<Void>> endTransaction = endResult -> {
+                            Handler<AsyncResult<Void>> complete = v -> {
+                                release(sqlConnection);
+                                if(res.succeeded() && endResult.failed()){
+                                    resultHandler.handle(Future.failedFuture(endResult.cause()));
+                                }else{
+                                    resultHandler.handle(res);
+                                }
+                            };
+                            if(connection != null){
+                                //the connection is bound by withConnection, so restore auto commit
+                                sqlConnection.setAutoCommit(true, complete);
+                            }else{
+                                complete.handle(Future.succeededFuture());
+                            }
+                        };
+                        if(res.succeeded()){
+                            log("Commit", () -> "");
+                            sqlConnection.commit(endTransaction);
+                        }else{
+                            log("Rollback", () -> res.cause().getMessage());
+                            sqlConnection.rollback(endTransaction);
+                        }
+                    });
+                });
+            }else{
+                resultHandler.handle(Future.failedFuture(sqlConnectionResult.cause()));
+            }
+        });
+    }
+
+    private <T> void apply(Function<AsyncJooqSQLClient, Future<T>> function, AsyncJooqSQLClient client, Handler<AsyncResult<T>> resultHandler){
+        Future<T> future;
+        try{
+            future = function.apply(client);
+        }catch(Throwable e){
+            future = Future.failedFuture(e);
+        }
+        future.setHandler(resultHandler);
+    }
+
     private void log(String type, Supplier<String> messageSupplier){
         if(logger.isDebugEnabled()){
             logger.debug("{}: {}",type, messageSupplier.get());
@@ -130,7 +271,7 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
             }catch(Throwable e) {
                 resultHandler.handle(Future.failedFuture(e));
             }finally {
-                sqlConnection.close();
+                release(sqlConnection);
             }
         };
     }
@@ -138,9 +279,16 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
     private JsonArray getBindValues(Query query) {
         JsonArray bindValues = new JsonArray();
         for (Param<?> param : query.getParams().values()) {
+            if(param.isInline()){
+                //rendered into the SQL, e.g. the 1 of SELECT 1
+                continue;
+            }
             Object value = convertToDatabaseType(param);
             if(value==null){
                 bindValues.addNull();
+            }else if(value instanceof Object[]){
+                //arrays are bound as a single parameter, e.g. by Postgres' unnest and ANY
+                bindValues.add(new JsonArray(Arrays.asList((Object[]) value)));
             }else{
                 bindValues.add(value);
             }
@@ -156,11 +304,28 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
      * @return a Future that returns a SQLConnection or an Exception.
      */
     private Future<SQLConnection> getConnection(){
+        if(connection != null){
+            return Future.succeededFuture(connection);
+        }
         Future<SQLConnection> future = Future.future();
         delegate.getConnection(future);
         return future;
     }
 
+    /**
+     * Closes the given connection unless it is bound to this client.
+     */
+    private void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
+    @Override
+    public boolean isConnectionBound() {
+        return connection != null;
+    }
+
     @Override
     public AsyncSQLClient delegate() {
         return delegate;
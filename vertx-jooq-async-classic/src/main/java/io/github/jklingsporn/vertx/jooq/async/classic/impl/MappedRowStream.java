@@ -0,0 +1,95 @@
+package io.github.jklingsporn.vertx.jooq.async.classic.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.sql.SQLRowStream;
+
+import java.util.function.Function;
+
+/**
+ * A <code>ReadStream</code> that maps the rows of a <code>SQLRowStream</code>. The row stream is closed and the
+ * connection released when the stream ends, fails or when the handler is reset to <code>null</code>
+ * (e.g. by <code>Pump#stop</code>).
+ */
+class MappedRowStream<P> implements ReadStream<P> {
+
+    private final SQLRowStream rowStream;
+    private final Function<JsonArray, P> mapper;
+    private final Runnable releaseConnection;
+    private Handler<Throwable> exceptionHandler;
+    private Handler<Void> endHandler;
+    private boolean closed;
+
+    MappedRowStream(SQLRowStream rowStream, Function<JsonArray, P> mapper, Runnable releaseConnection) {
+        this.rowStream = rowStream;
+        this.mapper = mapper;
+        this.releaseConnection = releaseConnection;
+        rowStream.exceptionHandler(this::fail);
+        rowStream.endHandler(v -> {
+            close();
+            if (endHandler != null) {
+                endHandler.handle(null);
+            }
+        });
+    }
+
+    @Override
+    public ReadStream<P> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public ReadStream<P> handler(Handler<P> handler) {
+        if (handler == null) {
+            rowStream.handler(null);
+            close();
+        } else {
+            rowStream.handler(row -> {
+                P mapped;
+                try {
+                    mapped = mapper.apply(row);
+                } catch (Throwable e) {
+                    fail(e);
+                    return;
+                }
+                handler.handle(mapped);
+            });
+        }
+        return this;
+    }
+
+    @Override
+    public ReadStream<P> pause() {
+        rowStream.pause();
+        return this;
+    }
+
+    @Override
+    public ReadStream<P> resume() {
+        rowStream.resume();
+        return this;
+    }
+
+    @Override
+    public ReadStream<P> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void fail(Throwable e) {
+        close();
+        if (exceptionHandler != null) {
+            exceptionHandler.handle(e);
+        }
+    }
+
+    private void close() {
+        if (!closed) {
+            closed = true;
+            rowStream.close();
+            releaseConnection.run();
+        }
+    }
+}
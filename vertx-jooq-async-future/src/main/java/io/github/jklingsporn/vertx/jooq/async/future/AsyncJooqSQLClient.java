@@ -8,6 +8,7 @@ import org.jooq.Query;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 /**
@@ -36,6 +37,20 @@ public interface AsyncJooqSQLClient {
      */
     <P> CompletableFuture<P> fetchOne(Query query, Function<JsonObject, P> mapper);
 
+    /**
+     * Fetches the results of a query in chunks instead of collecting them into a single list. The next chunk is
+     * only read when the <code>CompletionStage</code> returned by the <code>chunkConsumer</code> for the previous
+     * chunk has completed.
+     * @param query a jOOQ-query
+     * @param mapper a function to map the result into another object.
+     * @param chunkSize the maximum number of objects passed to the <code>chunkConsumer</code> at once.
+     * @param chunkConsumer a function consuming a chunk of results asynchronously.
+     * @param <P> the type to fetch
+     * @return A CompletableFuture that completes when all chunks have been consumed or fails with the first
+     * exception of the query or the <code>chunkConsumer</code>.
+     */
+    <P> CompletableFuture<Void> fetchChunked(Query query, Function<JsonObject, P> mapper, int chunkSize, Function<List<P>, CompletionStage<Void>> chunkConsumer);
+
     /**
      * @param query a jOOQ-query
      * @return A CompletableFuture returning the number of affected rows by this query.
@@ -48,6 +63,44 @@ public interface AsyncJooqSQLClient {
      */
     CompletableFuture<Long> insertReturning(Query query);
 
+    /**
+     * Runs a multi-row insert and computes the ids generated by MySQL. The ids of a multi-row insert are consecutive,
+     * so they are derived from the first inserted id and the <code>auto_increment_increment</code> of the connection.
+     * @param query a jOOQ-query inserting rows whose ids are all generated by the database
+     * @return A CompletableFuture returning the ids of the inserted rows in the order of the rows
+     */
+    CompletableFuture<List<Long>> insertReturningKeys(Query query);
+
+    /**
+     * Executes all queries of the given function on the same connection. DAOs that should use the connection
+     * need to be created with the client passed to the function.
+     * @param function a function that runs queries with the passed client and returns a CompletionStage that
+     *                 completes when all queries are done.
+     * @param <T> the result type
+     * @return A CompletableFuture returning the result of the function. The connection has been released when it
+     * completes.
+     */
+    <T> CompletableFuture<T> withConnection(Function<AsyncJooqSQLClient, CompletionStage<T>> function);
+
+    /**
+     * Executes all queries of the given function in a transaction on the same connection. The transaction is
+     * committed when the CompletionStage returned by the function succeeds, otherwise it is rolled back. Calling
+     * this method on a client that is already part of a transaction executes the function in the existing transaction.
+     * @param function a function that runs queries with the passed client and returns a CompletionStage that
+     *                 completes when all queries are done.
+     * @param <T> the result type
+     * @return A CompletableFuture returning the result of the function or failing with the exception that failed
+     * the function or the commit.
+     */
+    <T> CompletableFuture<T> withTransaction(Function<AsyncJooqSQLClient, CompletionStage<T>> function);
+
+    /**
+     * @return whether all queries of this client are executed on the same connection, which is the case for the
+     * clients passed to the functions of <code>withConnection</code> and <code>withTransaction</code>. A connection
+     * executes one query at a time, so such a client must not be used by concurrent queries.
+     */
+    boolean isConnectionBound();
+
     /**
      * @return the underlying client
      */
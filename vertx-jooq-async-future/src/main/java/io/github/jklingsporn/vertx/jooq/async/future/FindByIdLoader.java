@@ -0,0 +1,86 @@
+package io.github.jklingsporn.vertx.jooq.async.future;
+
+import io.github.jklingsporn.vertx.jooq.async.shared.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.BatchLoader;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.jooq.UpdatableRecord;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Batches the lookups of records by their primary key. All IDs requested within a window are fetched with a single
+ * <code>SELECT ... WHERE pk IN (...)</code>, composite keys are fetched with a row value <code>IN</code>. By default
+ * the window is the current event loop tick, so lookups issued by the same handler are batched.
+ * Create a loader per request if the results should not be shared between them.
+ */
+public class FindByIdLoader<R extends UpdatableRecord<R>, P extends VertxPojo, T> {
+
+    /**
+     * The default maximum number of distinct IDs fetched by one query.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final BatchLoader<T,P> loader;
+
+    public FindByIdLoader(Vertx vertx, VertxDAO<R,P,T> dao) {
+        this(vertx, dao, DEFAULT_MAX_BATCH_SIZE, 0);
+    }
+
+    /**
+     * @param vertx the vertx instance
+     * @param dao the DAO to fetch the records with
+     * @param maxBatchSize the maximum number of distinct IDs fetched by one query
+     * @param windowMillis the time in milliseconds IDs are collected or 0 to collect the IDs of the current event loop tick
+     */
+    public FindByIdLoader(Vertx vertx, VertxDAO<R,P,T> dao, int maxBatchSize, long windowMillis) {
+        this.loader = new BatchLoader<>(vertx, maxBatchSize, windowMillis, (ids, resultHandler) ->
+                dao.findByIdsAsync(ids).whenComplete((byId, x) -> resultHandler.handle(
+                        x == null ? Future.succeededFuture(byId) : Future.failedFuture(x))));
+    }
+
+    /**
+     * Finds a record by its primary key like <code>VertxDAO#findByIdAsync</code> as part of the next batch.
+     * @param id the primary key
+     * @return CompletableFuture returning the record or <code>null</code> if there is none or failing if the batch failed
+     */
+    public CompletableFuture<P> findByIdAsync(T id){
+        CompletableFuture<P> result = new CompletableFuture<>();
+        loader.load(id, res -> {
+            if(res.succeeded()){
+                result.complete(res.result());
+            }else{
+                result.completeExceptionally(res.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Fetches the pending IDs immediately.
+     */
+    public void dispatch(){
+        loader.dispatch();
+    }
+
+    /**
+     * @return the number of IDs that have been requested.
+     */
+    public long requests(){
+        return loader.requests();
+    }
+
+    /**
+     * @return the number of queries that have been executed.
+     */
+    public long batches(){
+        return loader.batches();
+    }
+
+    /**
+     * @return the average number of requested IDs per query or 0 if no query has been executed yet.
+     */
+    public double batchingRatio(){
+        return loader.batchingRatio();
+    }
+}
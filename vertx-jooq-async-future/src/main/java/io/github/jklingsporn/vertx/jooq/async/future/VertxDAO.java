@@ -1,16 +1,28 @@
 package io.github.jklingsporn.vertx.jooq.async.future;
 
+import io.github.jklingsporn.vertx.jooq.async.shared.Page;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
 import io.github.jklingsporn.vertx.jooq.async.shared.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.ConcurrentExecution;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 18.04.17.
@@ -28,6 +40,30 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      */
     Function<JsonObject, P> jsonMapper();
 
+    /**
+     * @return the SQL of the primary key based operations rendered by the code generator or <code>null</code>
+     * if the queries should be built by jOOQ on every call. Generated DAOs overwrite this method.
+     */
+    default StatementPlans statementPlans(){
+        return null;
+    }
+
+    /**
+     * @return a writer of the bind values of a POJO or <code>null</code> if the POJO should be copied into a
+     * <code>Record</code> instead. Generated DAOs overwrite this method.
+     */
+    default PojoWriter<P> pojoWriter(){
+        return null;
+    }
+
+    /**
+     * @return a copier of a POJO into a <code>Record</code> or <code>null</code> if jOOQ's reflective record
+     * mapping should be used. Generated DAOs overwrite this method.
+     */
+    default RecordCopier<P,R> recordCopier(){
+        return null;
+    }
+
     /**
      * Checks if a given ID exists asynchronously
      *
@@ -37,7 +73,18 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #existsById(Object)
      */
     default CompletableFuture<Boolean> existsByIdAsync(T id){
-        return findByIdAsync(id).thenApply(p->p!=null);
+        return VertxDAOHelper.existsByIdAsync(id, this, query -> client().fetch(query, json -> Boolean.TRUE).thenApply(rows -> !rows.isEmpty()));
+    }
+
+    /**
+     * Checks if a record matching the given condition exists asynchronously. The record is not fetched.
+     *
+     * @param condition the condition to match
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<Boolean> existsAsync(Condition condition){
+        return VertxDAOHelper.existsAsync(condition, this, query -> client().fetch(query, json -> Boolean.TRUE).thenApply(rows -> !rows.isEmpty()));
     }
 
     /**
@@ -47,7 +94,36 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #count()
      */
     default CompletableFuture<Long> countAsync(){
-        return VertxDAOHelper.countAsync(this, client()::fetchOne).thenApply(opt -> (Long) opt.get());
+        return VertxDAOHelper.countAsync(this, statementPlans(), client()::fetchOne).thenApply(opt -> (Long) opt.get());
+    }
+
+    /**
+     * Count the records matching the given condition asynchronously.
+     * @param condition the condition to count the records
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<Long> countAsync(Condition condition){
+        return VertxDAOHelper.countAsync(condition, this, client()::fetchOne).thenApply(opt -> ((Number) opt.get()).longValue());
+    }
+
+    /**
+     * Estimate the number of records of the underlying table asynchronously from the statistics of the database
+     * catalog instead of scanning the table. The estimate is cached per table and configuration for
+     * <code>DAOSettings#getApproxCountTtlMillis</code>. If the catalog has no statistics of the table or the estimate
+     * is below <code>DAOSettings#getExactCountThreshold</code>, the records are counted exactly like
+     * {@link #countAsync()}. Only supported on MySQL and Postgres.
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<Long> countApproxAsync(){
+        Long cached = VertxDAOHelper.cachedApproxCount(this);
+        if(cached != null){
+            return CompletableFuture.completedFuture(cached);
+        }
+        return VertxDAOHelper.countApproxAsync(this, client()::fetchOne)
+                .thenCompose(estimate -> VertxDAOHelper.requiresExactCount(this, estimate) ? countAsync() : CompletableFuture.completedFuture(estimate.get()))
+                .thenApply(count -> VertxDAOHelper.cacheApproxCount(this, count));
     }
 
     /**
@@ -69,7 +145,23 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #findById(Object)
      */
     default CompletableFuture<P> findByIdAsync(T id){
-        return VertxDAOHelper.applyConditionally(id, getTable(), this::fetchOneAsync);
+        return VertxDAOHelper.fetchOneByIdAsync(id, this, statementPlans(), query -> client().fetchOne(query, jsonMapper()));
+    }
+
+    /**
+     * Find the records of the underlying table by their IDs asynchronously using a single query.
+     *
+     * @param ids The IDs of the records in the underlying table. Composite keys are given as <code>Record</code>.
+     * @return CompletableFuture which succeeds with the records keyed by their ID or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception.
+     *                      IDs without a record are missing in the map.
+     * @see #findById(Object)
+     */
+    default CompletableFuture<Map<T,P>> findByIdsAsync(Collection<T> ids){
+        if(ids.isEmpty()){
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        return VertxDAOHelper.fetchByIdsAsync(ids, this, recordCopier(), (query, byId) -> client().fetch(query, jsonMapper()).thenApply(byId));
     }
 
     /**
@@ -95,7 +187,7 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      *                      e.g. when more than one result is returned.
      */
     default CompletableFuture<P> fetchOneAsync(Condition condition){
-        return client().fetchOne(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper());
+        return VertxDAOHelper.fetchOneAsync(condition, this, query -> client().fetchOne(query, jsonMapper()));
     }
 
     /**
@@ -116,13 +208,32 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * Find records by a given field and a set of values asynchronously.
      *
      * @param field The field to compare values against
-     * @param values The accepted values
+     * @param values The accepted values. Large collections are fetched in chunks of distinct values concurrently
+     *               according to the <code>DAOSettings</code> of this DAO's configuration. If the client of this DAO
+     *               is bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *               chunks are fetched one after another.
      * @param <Z> the value type
      * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default <Z> CompletableFuture<List<P>> fetchAsync(Field<Z> field, Collection<Z> values){
-        return fetchAsync(field.in(values));
+        return VertxDAOHelper.fetchInAsync(field, values, this, (queries, parallelism) -> {
+            if(queries.size() == 1){
+                return client().fetch(queries.get(0), jsonMapper());
+            }
+            CompletableFuture<List<P>> result = new CompletableFuture<>();
+            ConcurrentExecution.<Query,List<P>>execute(queries, client().isConnectionBound() ? 1 : parallelism,
+                    (query, chunkHandler) -> client().fetch(query, jsonMapper()).whenComplete((pojos, x) -> chunkHandler.handle(
+                            x == null ? Future.succeededFuture(pojos) : Future.failedFuture(x))),
+                    res -> {
+                        if(res.succeeded()){
+                            result.complete(res.result().stream().flatMap(List::stream).collect(Collectors.toList()));
+                        }else{
+                            result.completeExceptionally(res.cause());
+                        }
+                    });
+            return result;
+        });
     }
 
     /**
@@ -136,6 +247,158 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
         return client().fetch(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper());
     }
 
+    /**
+     * Find a page of records by a given condition asynchronously. Instead of skipping the records of the previous pages
+     * with an offset, only records ordered after the given key are fetched (keyset pagination), so each page costs
+     * the same no matter how deep it is. The order fields should be unique, e.g. end with the primary key.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param afterKey the values of the order fields of the last record of the previous page or <code>null</code> to
+     *                 fetch the first page
+     * @param limit the maximum number of records of the page
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<List<P>> fetchPageAsync(Condition condition, List<? extends SortField<?>> orderFields, Object[] afterKey, int limit){
+        return VertxDAOHelper.fetchPageAsync(condition, orderFields, afterKey, limit, this, query -> client().fetch(query, jsonMapper()));
+    }
+
+    /**
+     * Find a page of records by a given condition ordered by their primary key asynchronously.
+     *
+     * @param condition the condition to fetch the values
+     * @param afterId the ID of the last record of the previous page or <code>null</code> to fetch the first page
+     * @param limit the maximum number of records of the page
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     * @see #fetchPageAsync(Condition, List, Object[], int)
+     */
+    default CompletableFuture<List<P>> fetchPageAsync(Condition condition, T afterId, int limit){
+        return VertxDAOHelper.fetchPageAsync(condition, afterId, limit, this, query -> client().fetch(query, jsonMapper()));
+    }
+
+    /**
+     * Find a page of records by a given condition together with the total number of records matching the condition
+     * asynchronously. The total is selected by the same statement using <code>COUNT(*) OVER()</code> on Postgres and
+     * MySQL 8. On other MySQL dialects and MariaDB the statement is followed by <code>SELECT FOUND_ROWS()</code> on
+     * the same connection. Other dialects are not supported and fail with an <code>UnsupportedOperationException</code>.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param limit the maximum number of records of the page
+     * @param offset the number of records to skip
+     * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<Page<P>> fetchPageWithTotalAsync(Condition condition, List<? extends SortField<?>> orderFields, int limit, int offset){
+        try{
+            return VertxDAOHelper.fetchPageWithTotalAsync(condition, orderFields, limit, offset, this, (query, totalQuery) ->
+                    client().withConnection(connection -> connection.fetch(query, Function.identity()).thenCompose(rows -> {
+                        Query total = totalQuery.apply(rows);
+                        return total == null
+                                ? CompletableFuture.completedFuture(VertxDAOHelper.toPage(rows, null, jsonMapper()))
+                                : connection.fetchOne(total, Function.identity()).thenApply(json -> VertxDAOHelper.toPage(rows, json, jsonMapper()));
+                    })));
+        }catch(UnsupportedOperationException e){
+            CompletableFuture<Page<P>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Find records by a given condition and pass them in chunks to the <code>chunkConsumer</code>. The next chunk is
+     * only read when the <code>CompletionStage</code> returned for the previous chunk has completed.
+     *
+     * @param condition the condition to fetch the values
+     * @param chunkSize the maximum number of records per chunk
+     * @param chunkConsumer a function consuming a chunk of records asynchronously
+     * @return CompletableFuture which succeeds when all chunks have been consumed or fails with the first exception
+     * of the query or the <code>chunkConsumer</code>.
+     */
+    default CompletableFuture<Void> fetchChunkedAsync(Condition condition, int chunkSize, Function<List<P>, CompletionStage<Void>> chunkConsumer){
+        return client().fetchChunked(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper(), chunkSize, chunkConsumer);
+    }
+
+    /**
+     * Scans all records matching the given condition in primary key order and passes them in chunks to the
+     * <code>chunkConsumer</code>. Each chunk is fetched by its own query seeking after the primary key of the last
+     * record of the previous chunk, so neither the whole result is held in memory nor a cursor is held open during
+     * the scan. The next chunk is only fetched when the <code>CompletionStage</code> returned for the previous chunk
+     * has completed.
+     *
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @param chunkConsumer a function consuming a chunk of records asynchronously
+     * @return CompletableFuture which succeeds when all chunks have been consumed or fails with the first exception
+     * of a query or the <code>chunkConsumer</code>.
+     */
+    default CompletableFuture<Void> scanAsync(int batchSize, Condition condition, Function<List<P>, CompletionStage<Void>> chunkConsumer){
+        return new Function<Object[], CompletableFuture<Void>>() {
+            @Override
+            public CompletableFuture<Void> apply(Object[] afterKey) {
+                return VertxDAOHelper.scanAsync(condition, afterKey, batchSize, VertxDAO.this, recordCopier(), (query, lastKey) ->
+                        client().fetch(query, jsonMapper()).thenCompose(chunk -> {
+                            if(chunk.isEmpty()){
+                                return CompletableFuture.completedFuture(null);
+                            }
+                            CompletionStage<Void> consumed = chunkConsumer.apply(chunk);
+                            return chunk.size() < batchSize ? consumed : consumed.thenCompose(v -> apply(lastKey.apply(chunk)));
+                        }));
+            }
+        }.apply(null);
+    }
+
+    /**
+     * Splits the records matching the given condition into partitions by the range of their primary key. Each
+     * partition can be scanned on its own, e.g. with {@link #scanAsync(int, Condition, Function)}. Only tables with
+     * a single integral primary key can be partitioned.
+     *
+     * @param partitions the maximum number of partitions
+     * @param condition the condition to fetch the values
+     * @return CompletableFuture which succeeds with a condition per partition or fails
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default CompletableFuture<List<Condition>> partitionAsync(int partitions, Condition condition){
+        return VertxDAOHelper.partitionAsync(condition, partitions, this, (query, splitter) -> client().fetchOne(query, splitter));
+    }
+
+    /**
+     * Scans the records matching the given condition in partitions of their primary key range concurrently. Each
+     * partition is scanned like {@link #scanAsync(int, Condition, Function)}, so up to <code>parallelism</code>
+     * connections of the pool are used at the same time. Chunks of different partitions are passed to the
+     * <code>chunkConsumer</code> concurrently.
+     *
+     * @param partitions the maximum number of partitions
+     * @param parallelism the maximum number of partitions scanned at the same time. If the client of this DAO is
+     *                    bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *                    partitions are scanned one after another.
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @param chunkConsumer a function consuming a chunk of records asynchronously
+     * @return CompletableFuture which succeeds when all partitions have been consumed or fails with the first
+     * exception of a query or the <code>chunkConsumer</code>.
+     * @see #partitionAsync(int, Condition)
+     */
+    default CompletableFuture<Void> scanPartitionedAsync(int partitions, int parallelism, int batchSize, Condition condition,
+                                                         Function<List<P>, CompletionStage<Void>> chunkConsumer){
+        return partitionAsync(partitions, condition).thenCompose(conditions -> {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            ConcurrentExecution.<Condition,Void>execute(conditions, client().isConnectionBound() ? 1 : parallelism,
+                    (partition, partitionHandler) -> scanAsync(batchSize, partition, chunkConsumer).whenComplete((v, x) -> partitionHandler.handle(
+                            x == null ? Future.succeededFuture() : Future.failedFuture(x))),
+                    res -> {
+                        if(res.succeeded()){
+                            result.complete(null);
+                        }else{
+                            result.completeExceptionally(res.cause());
+                        }
+                    });
+            return result;
+        });
+    }
+
     /**
      * Performs an async <code>DELETE</code> statement for a given key and passes the number of affected rows
      * to the returned <code>CompletableFuture</code>.
@@ -145,7 +408,7 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      */
     @SuppressWarnings("unchecked")
     default CompletableFuture<Integer> deleteExecAsync(T id){
-        return VertxDAOHelper.applyConditionally(id, getTable(), this::deleteExecAsync);
+        return VertxDAOHelper.deleteByIdAsync(id, this, statementPlans(), client()::execute);
     }
 
     /**
@@ -176,12 +439,16 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
     /**
      * Performs an async <code>UPDATE</code> statement for a given POJO and passes the number of affected rows
      * to the <code>resultHandler</code>.
+     * If the POJO tracks its changes, they are reset after a successful update.
      * @param object The POJO to be updated
      * @return CompletableFuture which succeeds when the blocking method of this type succeeds or fails
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default CompletableFuture<Integer> updateExecAsync(P object){
-        return VertxDAOHelper.updateExecAsync(object, this, query->client().execute(query));
+        return VertxDAOHelper.updateExecAsync(object, this, recordCopier(), query->client().execute(query).thenApply(updated -> {
+            object.resetChanges();
+            return updated;
+        }));
     }
 
     /**
@@ -192,18 +459,128 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default CompletableFuture<Integer> insertExecAsync(P object){
-        return VertxDAOHelper.insertExecAsync(object, this, query->client().execute(query));
+        return VertxDAOHelper.insertExecAsync(object, this, pojoWriter(), query->client().execute(query));
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs. The POJOs are split into several
+     * statements according to the <code>DAOSettings</code> of this DAO's configuration which are executed one after
+     * another in a transaction, so either all POJOs are inserted or none. When the client already is in a
+     * transaction, the statements join it.
+     * @param objects The POJOs to be inserted
+     * @return CompletableFuture returning the number of affected rows or failing with the exception of the first
+     * failing statement
+     */
+    default CompletableFuture<Integer> insertExecAsync(Collection<P> objects){
+        return VertxDAOHelper.insertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                return CompletableFuture.completedFuture(0);
+            }
+            Function<AsyncJooqSQLClient, CompletionStage<Integer>> insertAll = client -> {
+                CompletableFuture<Integer> inserted = CompletableFuture.completedFuture(0);
+                for (Query query : queries) {
+                    inserted = inserted.thenCompose(sum -> client.execute(query).thenApply(rows -> sum + rows));
+                }
+                return inserted;
+            };
+            return queries.size() > 1 ? client().withTransaction(insertAll) : client().withConnection(insertAll);
+        });
+    }
+
+    /**
+     * Performs an async <code>INSERT</code> statement for a given POJO that updates the existing row instead if a row
+     * with the same primary key exists. It is executed as <code>INSERT ... ON DUPLICATE KEY UPDATE</code> on MySQL
+     * and as <code>INSERT ... ON CONFLICT ... DO UPDATE</code> on Postgres. Note that MySQL counts an updated row
+     * twice.
+     * @param object The POJO to be inserted or updated
+     * @return CompletableFuture returning the number of affected rows
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default CompletableFuture<Integer> upsertExecAsync(P object){
+        return VertxDAOHelper.upsertExecAsync(object, this, pojoWriter(), query->client().execute(query));
+    }
+
+    /**
+     * Performs async multi-row upserts like {@link #upsertExecAsync(Object)} for the given POJOs. The POJOs are split
+     * into several statements which run in a transaction like {@link #insertExecAsync(Collection)}.
+     * @param objects The POJOs to be inserted or updated
+     * @return CompletableFuture returning the number of affected rows or failing with the exception of the first
+     * failing statement
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default CompletableFuture<Integer> upsertExecAsync(Collection<P> objects){
+        return VertxDAOHelper.upsertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                return CompletableFuture.completedFuture(0);
+            }
+            Function<AsyncJooqSQLClient, CompletionStage<Integer>> upsertAll = client -> {
+                CompletableFuture<Integer> upserted = CompletableFuture.completedFuture(0);
+                for (Query query : queries) {
+                    upserted = upserted.thenCompose(sum -> client.execute(query).thenApply(rows -> sum + rows));
+                }
+                return upserted;
+            };
+            return queries.size() > 1 ? client().withTransaction(upsertAll) : client().withConnection(upsertAll);
+        });
     }
 
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO and passes the primary key
      * to the <code>resultHandler</code>. When the value could not be inserted, the <code>resultHandler</code>
-     * will fail.
+     * will fail. On Postgres the key is returned by the <code>INSERT</code> using <code>RETURNING</code>, so keys of
+     * any type and composite keys are supported. On MySQL the last generated id is used.
      * @param object The POJO to be inserted
      * @return CompletableFuture
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
      */
     default CompletableFuture<T> insertReturningPrimaryAsync(P object){
-        return VertxDAOHelper.insertReturningPrimaryAsync(object, this, (query,keyConverter)-> client().insertReturning(query).thenApply(keyConverter));
+        return VertxDAOHelper.insertReturningPrimaryAsync(object, this, recordCopier(),
+                (query,keyConverter)-> client().insertReturning(query).thenApply(keyConverter),
+                (query,mapper)-> client().fetchOne(query, mapper));
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs like
+     * <code>insertExecAsync(Collection)</code> and returns the primary keys of the inserted rows in the order of the
+     * POJOs. Like there, several statements run in a transaction. The statements use bound parameters. On Postgres the keys are returned by the statements using
+     * <code>RETURNING</code>. On MySQL they are computed from the first generated id and the
+     * <code>auto_increment_increment</code>, so all keys have to be generated by the database.
+     * @param objects The POJOs to be inserted
+     * @return CompletableFuture returning the primary keys
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
+     * @throws IllegalArgumentException on MySQL, if a POJO contains a primary key
+     */
+    default CompletableFuture<List<T>> insertReturningPrimaryAsync(Collection<P> objects){
+        BiFunction<List<Query>, BiFunction<AsyncJooqSQLClient, Query, CompletableFuture<List<T>>>, CompletableFuture<List<T>>> insertAll = (queries, insert) -> {
+            if(queries.isEmpty()){
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
+            Function<AsyncJooqSQLClient, CompletionStage<List<T>>> insertChunks = client -> {
+                CompletableFuture<List<T>> keys = CompletableFuture.completedFuture(new ArrayList<>());
+                for (Query query : queries) {
+                    keys = keys.thenCompose(all -> insert.apply(client, query).thenApply(chunk -> {
+                        all.addAll(chunk);
+                        return all;
+                    }));
+                }
+                return keys;
+            };
+            return queries.size() > 1 ? client().withTransaction(insertChunks) : client().withConnection(insertChunks);
+        };
+        return VertxDAOHelper.insertReturningPrimaryAsync(objects, this, pojoWriter(),
+                (queries, keyConverter) -> insertAll.apply(queries, (client, query) -> client.insertReturningKeys(query)
+                        .thenApply(ids -> ids.stream().map(keyConverter).collect(Collectors.toList()))),
+                (queries, mapper) -> insertAll.apply(queries, (client, query) -> client.fetch(query, mapper)));
+    }
+
+    /**
+     * Performs an async <code>INSERT ... RETURNING</code> statement for a given POJO.
+     * @param object The POJO to be inserted
+     * @return CompletableFuture returning the inserted row, including all values generated by the database.
+     * @throws UnsupportedOperationException if the dialect does not support <code>RETURNING</code>, e.g. MySQL
+     */
+    default CompletableFuture<P> insertReturningAsync(P object){
+        return VertxDAOHelper.insertReturningAsync(object, this, recordCopier(), query -> client().fetchOne(query, jsonMapper()));
     }
 
 }
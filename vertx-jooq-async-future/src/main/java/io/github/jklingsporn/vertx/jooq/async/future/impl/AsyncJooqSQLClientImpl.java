@@ -1,24 +1,28 @@
 package io.github.jklingsporn.vertx.jooq.async.future.impl;
 
 import io.github.jklingsporn.vertx.jooq.async.future.AsyncJooqSQLClient;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.GeneratedKeys;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.RowMappers;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLRowStream;
 import io.vertx.ext.sql.UpdateResult;
 import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
 import org.jooq.Param;
 import org.jooq.Query;
-import org.jooq.conf.ParamType;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 13.06.17.
@@ -27,10 +31,28 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
 
     private final Vertx vertx;
     private final AsyncSQLClient delegate;
+    private final SQLRenderCache renderCache;
+    /**
+     * The connection all queries are executed on or <code>null</code> if a connection is obtained from the pool
+     * for each query.
+     */
+    private final SQLConnection connection;
+    private final boolean transaction;
 
     public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate) {
+        this(vertx, delegate, SQLRenderCache.getInstance());
+    }
+
+    public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache) {
+        this(vertx, delegate, renderCache, null, false);
+    }
+
+    private AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache, SQLConnection connection, boolean transaction) {
         this.vertx = vertx;
         this.delegate = delegate;
+        this.renderCache = renderCache;
+        this.connection = connection;
+        this.transaction = transaction;
     }
 
     @Override
@@ -38,10 +60,9 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         return getConnection().thenCompose(sqlConnection -> {
             CompletableFuture<List<P>> cf = new VertxCompletableFuture<>(vertx);
             sqlConnection.queryWithParams(
-                    query.getSQL(),
+                    renderCache.getSQL(query),
                     getBindValues(query),
-                    executeAndClose(rs ->
-                            rs.getRows().stream().map(mapper).collect(Collectors.toList()),
+                    executeAndClose(rs -> RowMappers.map(rs, mapper),
                             sqlConnection,
                             cf)
             );
@@ -53,10 +74,25 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
     public <P> CompletableFuture<P> fetchOne(Query query, Function<JsonObject, P> mapper){
         return getConnection().thenCompose(sqlConnection -> {
             CompletableFuture<P> cf = new VertxCompletableFuture<P>(vertx);
-            sqlConnection.queryWithParams(query.getSQL(), getBindValues(query), executeAndClose(rs -> {
-                Optional<P> optional = rs.getRows().stream().findFirst().map(mapper);
-                return optional.orElseGet(() -> null);
-            }, sqlConnection, cf));
+            sqlConnection.queryWithParams(renderCache.getSQL(query), getBindValues(query), executeAndClose(rs -> RowMappers.mapOne(rs, mapper), sqlConnection, cf));
+            return cf;
+        });
+    }
+
+    @Override
+    public <P> CompletableFuture<Void> fetchChunked(Query query, Function<JsonObject, P> mapper, int chunkSize, Function<List<P>, CompletionStage<Void>> chunkConsumer){
+        Arguments.require(chunkSize > 0, "chunkSize must be greater than 0");
+        return getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<Void> cf = new VertxCompletableFuture<>(vertx);
+            sqlConnection.queryStreamWithParams(renderCache.getSQL(query), getBindValues(query), rowStreamResult -> {
+                if(rowStreamResult.succeeded()){
+                    SQLRowStream rowStream = rowStreamResult.result();
+                    new ChunkedFetch<>(vertx.getOrCreateContext(), rowStream, RowMappers.forColumns(rowStream.columns(), mapper), chunkSize, chunkConsumer, cf, () -> release(sqlConnection)).start();
+                }else{
+                    release(sqlConnection);
+                    cf.completeExceptionally(rowStreamResult.cause());
+                }
+            });
             return cf;
         });
     }
@@ -66,7 +102,7 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         return getConnection().thenCompose(sqlConnection -> {
             CompletableFuture<Integer> cf = new VertxCompletableFuture<>(vertx);
             JsonArray bindValues = getBindValues(query);
-            sqlConnection.updateWithParams(query.getSQL(), bindValues, executeAndClose(UpdateResult::getUpdated,sqlConnection,cf));
+            sqlConnection.updateWithParams(renderCache.getSQL(query), bindValues, executeAndClose(UpdateResult::getUpdated,sqlConnection,cf));
             return cf;
         });
     }
@@ -75,17 +111,111 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
     public CompletableFuture<Long> insertReturning(Query query) {
         return getConnection().thenCompose(sqlConnection -> {
             CompletableFuture<Long> cf = new VertxCompletableFuture<>(vertx);
-            sqlConnection.update(query.getSQL(ParamType.INLINED), executeAndClose(updateResult->updateResult.getKeys().getLong(0), sqlConnection, cf));
+            sqlConnection.updateWithParams(renderCache.getSQL(query), getBindValues(query), executeAndClose(updateResult->updateResult.getKeys().getLong(0), sqlConnection, cf));
+            return cf;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Long>> insertReturningKeys(Query query) {
+        return getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<List<Long>> cf = new VertxCompletableFuture<>(vertx);
+            sqlConnection.updateWithParams(renderCache.getSQL(query), getBindValues(query), updateResult -> {
+                if(updateResult.failed()){
+                    release(sqlConnection);
+                    cf.completeExceptionally(updateResult.cause());
+                    return;
+                }
+                //the step is a session variable, so it has to be read from the same connection
+                sqlConnection.query(GeneratedKeys.AUTO_INCREMENT_INCREMENT, executeAndClose(step -> GeneratedKeys.of(updateResult.result(), step), sqlConnection, cf));
+            });
+            return cf;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> withConnection(Function<AsyncJooqSQLClient, CompletionStage<T>> function) {
+        if(connection != null){
+            return apply(function, this);
+        }
+        return getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<T> cf = new VertxCompletableFuture<>(vertx);
+            apply(function, new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, false)).whenComplete((res, x) -> {
+                release(sqlConnection);
+                complete(cf, res, x);
+            });
             return cf;
         });
     }
 
+    @Override
+    public <T> CompletableFuture<T> withTransaction(Function<AsyncJooqSQLClient, CompletionStage<T>> function) {
+        if(transaction){
+            return apply(function, this);
+        }
+        return getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<T> cf = new VertxCompletableFuture<>(vertx);
+            sqlConnection.setAutoCommit(false, autoCommitResult -> {
+                if(autoCommitResult.failed()){
+                    release(sqlConnection);
+                    cf.completeExceptionally(autoCommitResult.cause());
+                    return;
+                }
+                apply(function, new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, true)).whenComplete((res, x) -> {
+                    Handler<AsyncResult<Void>> endTransaction = endResult -> {
+                        Handler<AsyncResult<Void>> onEnd = v -> {
+                            release(sqlConnection);
+                            complete(cf, res, x == null && endResult.failed() ? endResult.cause() : x);
+                        };
+                        if(connection != null){
+                            //the connection is bound by withConnection, so restore auto commit
+                            sqlConnection.setAutoCommit(true, onEnd);
+                        }else{
+                            onEnd.handle(null);
+                        }
+                    };
+                    if(x == null){
+                        sqlConnection.commit(endTransaction);
+                    }else{
+                        sqlConnection.rollback(endTransaction);
+                    }
+                });
+            });
+            return cf;
+        });
+    }
+
+    private <T> CompletableFuture<T> apply(Function<AsyncJooqSQLClient, CompletionStage<T>> function, AsyncJooqSQLClient client){
+        try{
+            return function.apply(client).toCompletableFuture();
+        }catch(Throwable e){
+            CompletableFuture<T> failed = new VertxCompletableFuture<>(vertx);
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> cf, T result, Throwable x){
+        if(x != null){
+            cf.completeExceptionally(x);
+        }else{
+            cf.complete(result);
+        }
+    }
+
     private JsonArray getBindValues(Query query) {
         JsonArray bindValues = new JsonArray();
         for (Param<?> param : query.getParams().values()) {
+            if(param.isInline()){
+                //rendered into the SQL, e.g. the 1 of SELECT 1
+                continue;
+            }
             Object value = convertToDatabaseType(param);
             if(value==null){
                 bindValues.addNull();
+            }else if(value instanceof Object[]){
+                //arrays are bound as a single parameter, e.g. by Postgres' unnest and ANY
+                bindValues.add(new JsonArray(Arrays.asList((Object[]) value)));
             }else{
                 bindValues.add(value);
             }
@@ -102,6 +232,10 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
      */
     private CompletableFuture<SQLConnection> getConnection(){
         CompletableFuture<SQLConnection> cf = new VertxCompletableFuture<>(vertx);
+        if(connection != null){
+            cf.complete(connection);
+            return cf;
+        }
         delegate.getConnection(h -> {
             if (h.succeeded()) {
                 cf.complete(h.result());
@@ -120,12 +254,28 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
                 } else {
                     cf.completeExceptionally(rs.cause());
                 }
+            }catch(Throwable e) {
+                cf.completeExceptionally(e);
             }finally {
-                sqlConnection.close();
+                release(sqlConnection);
             }
         };
     }
 
+    /**
+     * Closes the given connection unless it is bound to this client.
+     */
+    private void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
+    @Override
+    public boolean isConnectionBound() {
+        return connection != null;
+    }
+
     @Override
     public AsyncSQLClient delegate() {
         return delegate;
@@ -0,0 +1,111 @@
+package io.github.jklingsporn.vertx.jooq.async.future.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.sql.SQLRowStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Reads a <code>SQLRowStream</code> in chunks. The stream is paused while a chunk is consumed and resumed when the
+ * <code>CompletionStage</code> returned by the consumer completes. The row stream is closed and the connection released
+ * when all chunks have been consumed or on the first failure.
+ */
+class ChunkedFetch<P> {
+
+    private final Context context;
+    private final SQLRowStream rowStream;
+    private final Function<JsonArray, P> mapper;
+    private final int chunkSize;
+    private final Function<List<P>, CompletionStage<Void>> chunkConsumer;
+    private final CompletableFuture<Void> result;
+    private final Runnable releaseConnection;
+    private List<P> chunk;
+    private CompletionStage<Void> pending = CompletableFuture.completedFuture(null);
+    private boolean done;
+
+    ChunkedFetch(Context context, SQLRowStream rowStream, Function<JsonArray, P> mapper, int chunkSize,
+                 Function<List<P>, CompletionStage<Void>> chunkConsumer, CompletableFuture<Void> result, Runnable releaseConnection) {
+        this.context = context;
+        this.rowStream = rowStream;
+        this.mapper = mapper;
+        this.chunkSize = chunkSize;
+        this.chunkConsumer = chunkConsumer;
+        this.result = result;
+        this.releaseConnection = releaseConnection;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    void start(){
+        rowStream.exceptionHandler(this::fail);
+        rowStream.endHandler(v -> {
+            List<P> rest = chunk;
+            onComplete(pending, () -> {
+                CompletionStage<Void> last = rest.isEmpty() ? CompletableFuture.completedFuture(null) : consume(rest);
+                onComplete(last, () -> {
+                    done = true;
+                    close();
+                    result.complete(null);
+                });
+            });
+        });
+        rowStream.handler(row -> {
+            if(done){
+                return;
+            }
+            try{
+                chunk.add(mapper.apply(row));
+            }catch(Throwable e){
+                fail(e);
+                return;
+            }
+            if(chunk.size() == chunkSize){
+                rowStream.pause();
+                List<P> full = chunk;
+                chunk = new ArrayList<>(chunkSize);
+                pending = consume(full);
+                onComplete(pending, rowStream::resume);
+            }
+        });
+    }
+
+    private CompletionStage<Void> consume(List<P> values){
+        try{
+            return chunkConsumer.apply(values);
+        }catch(Throwable e){
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Runs the action on the context of the fetch once the stage succeeded or fails the fetch.
+     */
+    private void onComplete(CompletionStage<Void> stage, Runnable action){
+        stage.whenComplete((v, x) -> context.runOnContext(h -> {
+            if(x != null){
+                fail(x);
+            }else if(!done){
+                action.run();
+            }
+        }));
+    }
+
+    private void fail(Throwable e){
+        if(!done){
+            done = true;
+            close();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void close(){
+        rowStream.close();
+        releaseConnection.run();
+    }
+}
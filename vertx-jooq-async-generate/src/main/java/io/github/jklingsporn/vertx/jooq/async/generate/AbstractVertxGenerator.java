@@ -2,16 +2,28 @@ package io.github.jklingsporn.vertx.jooq.async.generate;
 
 import io.github.jklingsporn.vertx.jooq.async.shared.JsonArrayConverter;
 import io.github.jklingsporn.vertx.jooq.async.shared.JsonObjectConverter;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
+import io.github.jklingsporn.vertx.jooq.async.shared.RowMapper;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import org.jooq.Constants;
+import org.jooq.*;
+import org.jooq.Name;
 import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 import org.jooq.tools.JooqLogger;
 import org.jooq.util.*;
 
 import java.io.File;
 import java.time.Instant;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Created by jklingsporn on 17.10.16.
@@ -21,12 +33,15 @@ import java.util.List;
  * Besides these method there is also a constructor generated which takes a <code>JsonObject</code>.
  * It also generates DAOs which implement
  * <code>VertxDAO</code> and allow you to execute CRUD-operations asynchronously.
+ * If change tracking is enabled, the POJOs remember which of their setters have been called, so that an update of
+ * a fetched POJO only sets the changed columns.
  */
 public abstract class AbstractVertxGenerator extends JavaGenerator {
 
     private static final JooqLogger logger = JooqLogger.getLogger(AbstractVertxGenerator.class);
 
     private final boolean generateJson;
+    private boolean generateChangeTracking;
 
     public AbstractVertxGenerator() {
         this(true);
@@ -41,13 +56,56 @@ public abstract class AbstractVertxGenerator extends JavaGenerator {
     protected void generateDaoClassFooter(TableDefinition table, JavaWriter out) {
         super.generateDaoClassFooter(table, out);
         generateFetchMethods(table,out);
+        generateSeekMethods(table,out);
         generateVertxGetterAndSetterConfigurationMethod(out);
-        overwriteInsertReturningIfNecessary(table,out);
+        generateStatementPlans(table,out);
+        generatePojoWriter(table,out);
+        generateRecordCopier(table,out);
+    }
+
+    /**
+     * @param generateChangeTracking whether the generated POJOs should track which columns have been changed.
+     * Defaults to <code>false</code>.
+     */
+    public void setGenerateChangeTracking(boolean generateChangeTracking) {
+        this.generateChangeTracking = generateChangeTracking;
+    }
+
+    public boolean generateChangeTracking() {
+        return generateChangeTracking;
+    }
+
+    @Override
+    protected void generatePojoSetter(TypedElementDefinition<?> column, int index, JavaWriter out) {
+        if(!generateChangeTracking || !(column.getContainer() instanceof TableDefinition)
+                || column.getType().isUDT() || column.getType().isArray()){
+            super.generatePojoSetter(column, index, out);
+            return;
+        }
+        //same as JavaGenerator but marks the column as changed
+        final String className = getStrategy().getJavaClassName(column.getContainer(), GeneratorStrategy.Mode.POJO);
+        final String columnType = out.ref(getJavaType(column.getType(), GeneratorStrategy.Mode.POJO));
+        final String columnSetterReturnType = generateFluentSetters() ? className : "void";
+        final String columnSetter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.POJO);
+        final String columnMember = getStrategy().getJavaMemberName(column, GeneratorStrategy.Mode.POJO);
+        final int columnIndex = ((TableDefinition) column.getContainer()).getColumns().indexOf(column);
+        out.println();
+        out.tab(1).overrideIf(generateInterfaces() && !generateImmutableInterfaces());
+        out.tab(1).println("public %s %s(%s %s) {", columnSetterReturnType, columnSetter, columnType, columnMember);
+        out.tab(2).println("this.%s = %s;", columnMember, columnMember);
+        out.tab(2).println("this.changedColumns.set(%d);", columnIndex);
+        if(generateFluentSetters()){
+            out.tab(2).println("return this;");
+        }
+        out.tab(1).println("}");
     }
 
     @Override
     protected void generatePojoClassFooter(TableDefinition table, JavaWriter out) {
         super.generatePojoClassFooter(table, out);
+        if(generateChangeTracking){
+            generateChangeTracking(table, out);
+        }
         if(generateJson){
             generateFromJsonConstructor(table,out);
             if(!generateInterfaces()){
@@ -113,23 +171,98 @@ public abstract class AbstractVertxGenerator extends JavaGenerator {
         out.println();
     }
 
-    private void overwriteInsertReturningIfNecessary(TableDefinition table, JavaWriter out){
-        Collection<ColumnDefinition> keyColumns = table.getPrimaryKey().getKeyColumns();
-        boolean isSupported = keyColumns.size()==1;
-        String reason = "More than one PK column";
-        if(isSupported){
-            isSupported = keyColumns.stream()
-                            .map(c -> getJavaType(c.getType()))
-                            .allMatch(t -> isType(t, Integer.class) || isType(t, Long.class));
-            reason = isSupported ? "":"PK is not of type int or long";
+    /**
+     * Renders the SQL of the primary key based operations of the DAO for the dialect of the database and
+     * generates a <code>statementPlans</code>-method returning it. At runtime the SQL is only used if the
+     * configuration of the DAO renders the same statements.
+     * @param table
+     * @param out
+     */
+    protected void generateStatementPlans(TableDefinition table, JavaWriter out){
+        SQLDialect dialect = table.getDatabase().getDialect();
+        DSLContext dslContext = DSL.using(dialect);
+        Name tableName = table.getSchema().isDefaultSchema() || table.getSchema().getOutputName().isEmpty()
+                ? DSL.name(table.getOutputName())
+                : DSL.name(table.getSchema().getOutputName(), table.getOutputName());
+        Table<Record> sqlTable = DSL.table(tableName);
+        List<Field<Object>> fields = table.getColumns().stream().map(c -> columnField(tableName, c)).collect(Collectors.toList());
+        List<Field<Object>> pk = table.getPrimaryKey().getKeyColumns().stream().map(c -> columnField(tableName, c)).collect(Collectors.toList());
+        Condition byId = pk.size() == 1
+                ? pk.get(0).eq((Object) null)
+                : DSL.row(pk).eq(DSL.row(pk.stream().map(f -> DSL.val(null, f)).collect(Collectors.toList())));
+        String statementPlans = out.ref(StatementPlans.class.getName());
+        out.println();
+        out.tab(1).println("private static final %s STATEMENT_PLANS = new %s(", statementPlans, statementPlans);
+        out.tab(3).println("%s.%s,", out.ref(SQLDialect.class.getName()), dialect.name());
+        out.tab(3).println("\"%s\",", escapeJavaString(dslContext.select(fields).from(sqlTable).where(byId).getSQL()));
+        out.tab(3).println("\"%s\",", escapeJavaString(dslContext.deleteFrom(sqlTable).where(byId).getSQL()));
+        out.tab(3).println("\"%s\"", escapeJavaString(dslContext.selectCount().from(sqlTable).getSQL()));
+        out.tab(1).println(");");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public %s statementPlans() {", statementPlans);
+        out.tab(2).println("return STATEMENT_PLANS;");
+        out.tab(1).println("}");
+        out.println();
+    }
+
+    /**
+     * Generates a <code>pojoWriter</code>-method of the DAO, which returns a <code>PojoWriter</code> that reads the
+     * values of a POJO with its getters in the order of the columns of the table.
+     * @param table
+     * @param out
+     */
+    protected void generatePojoWriter(TableDefinition table, JavaWriter out){
+        String pType = out.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
+        String pojoWriter = String.format("%s<%s>", out.ref(PojoWriter.class.getName()), pType);
+        List<ColumnDefinition> columns = table.getColumns();
+        out.tab(1).println("private static final %s POJO_WRITER = (pojo, values) -> {", pojoWriter);
+        for (int index = 0; index < columns.size(); index++) {
+            out.tab(2).println("values[%d] = pojo.%s();", index, getStrategy().getJavaGetterName(columns.get(index), GeneratorStrategy.Mode.POJO));
         }
-        if(!isSupported){
-            logger.info(String.format("insertReturningPrimaryAsync is not supported for %s because '%s'!",table.getName(),reason));
-            renderInsertReturningOverwrite(table, out, reason);
+        out.tab(1).println("};");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public %s pojoWriter() {", pojoWriter);
+        out.tab(2).println("return POJO_WRITER;");
+        out.tab(1).println("}");
+        out.println();
+    }
+
+    /**
+     * Generates a <code>recordCopier</code>-method of the DAO, which returns a <code>RecordCopier</code> that copies
+     * a POJO into a record with their getters and setters.
+     * @param table
+     * @param out
+     */
+    protected void generateRecordCopier(TableDefinition table, JavaWriter out){
+        String pType = out.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
+        String rType = out.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.RECORD));
+        String recordCopier = String.format("%s<%s, %s>", out.ref(RecordCopier.class.getName()), pType, rType);
+        out.tab(1).println("private static final %s RECORD_COPIER = (pojo, record) -> {", recordCopier);
+        for (ColumnDefinition column : table.getColumns()) {
+            out.tab(2).println("record.%s(pojo.%s());",
+                    getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.RECORD),
+                    getStrategy().getJavaGetterName(column, GeneratorStrategy.Mode.POJO));
         }
+        out.tab(1).println("};");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public %s recordCopier() {", recordCopier);
+        out.tab(2).println("return RECORD_COPIER;");
+        out.tab(1).println("}");
+        out.println();
     }
 
-    protected abstract void renderInsertReturningOverwrite(TableDefinition table, JavaWriter out, String reason);
+    private static Field<Object> columnField(Name tableName, ColumnDefinition column){
+        String[] parts = Arrays.copyOf(tableName.getName(), tableName.getName().length + 1);
+        parts[parts.length - 1] = column.getOutputName();
+        return DSL.field(DSL.name(parts));
+    }
+
+    private static String escapeJavaString(String s){
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
 
     /**
      * Overwrite this method to define the conversion of a column to a JSON name. Defaults to the name of the column.
@@ -187,59 +320,130 @@ public abstract class AbstractVertxGenerator extends JavaGenerator {
         out.println();
     }
 
+    /**
+     * Generates the <code>jsonMapper</code>-method of a DAO, which returns a <code>RowMapper</code>. Columns with
+     * custom types that are handled by {@link #handleCustomTypeJsonMapper(ColumnDefinition, String, String, String, JavaWriter)}
+     * are only mapped from a <code>JsonObject</code>, all other tables also map the positional results of a
+     * <code>ResultSet</code>.
+     * @param table
+     * @param out
+     */
     protected void generateJsonMapper(TableDefinition table, JavaWriter out){
-//        return json->
-//            new generated.classic.async.vertx.tables.pojos.Something()
-//                    .setSomeid(json.getInteger("someId"))
-//                    .setSomejsonobject(JsonObjectConverter.getInstance().from(json.getString("someJsonObject")))
-//                    ;
-        out.tab(1).println("@Override");
-
-        out.tab(1).println("public java.util.function.Function<%s, %s> jsonMapper() {", JsonObject.class.getName(),getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
-        out.tab(2).println("return json -> ");
-        out.tab(3).println("new %s()",getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
+        String pType = getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO);
+        String rowMapper = String.format("%s<%s>", RowMapper.class.getName(), pType);
+        out.tab(1).println("private static final %s JSON_MAPPER = new %s() {", rowMapper, rowMapper);
+        out.println();
+        out.tab(2).println("@Override");
+        out.tab(2).println("public %s apply(%s json) {", pType, JsonObject.class.getName());
+        out.tab(3).println(generateChangeTracking ? "%s pojo = new %s()" : "return new %s()", pType, pType);
+        boolean positional = true;
         for (ColumnDefinition column : table.getColumns()) {
             String setter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.INTERFACE);
             String columnType = getJavaType(column.getType());
             String jsonName = getJsonName(column);
+            String getter;
             if(handleCustomTypeJsonMapper(column, setter, columnType, jsonName, out)) {
                 //handled by user
-            }else if(isType(columnType, Integer.class)){
-                out.tab(5).println(".%s(json.getInteger(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType, Short.class)){
-                out.tab(5).println(".%s(json.getInteger(\"%s\")==null?null:json.getInteger(\"%s\").shortValue())", setter, jsonName, jsonName);
-            }else if(isType(columnType, Byte.class)){
-                out.tab(5).println(".%s(json.getInteger(\"%s\")==null?null:json.getInteger(\"%s\").byteValue())", setter,jsonName, jsonName);
-            }else if(isType(columnType, Long.class)){
-                out.tab(5).println(".%s(json.getLong(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType, Float.class)){
-                out.tab(5).println(".%s(json.getFloat(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType, Double.class)){
-                out.tab(5).println(".%s(json.getDouble(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType, Boolean.class)){
-                out.tab(5).println(".%s(json.getBoolean(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType, String.class)){
-                out.tab(5).println(".%s(json.getString(\"%s\"))", setter, jsonName);
-            }else if(columnType.equals(byte.class.getName()+"[]")){
-                out.tab(5).println(".%s(json.getBinary(\"%s\"))", setter, jsonName);
-            }else if(isType(columnType,Instant.class)){
-                out.tab(5).println(".%s(json.getInstant(\"%s\"))", setter, jsonName);
-            }else if(isEnum(table, column)) {
-                out.tab(5).println(".%s(java.util.Arrays.stream(%s.values()).filter(td -> td.getLiteral().equals(json.getString(\"%s\"))).findFirst().orElse(null))", setter, columnType, jsonName);
-            }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonObjectConverter.class)){
-                out.tab(5).println(".%s(%s.getInstance().from(json.getString(\"%s\")))", setter, JsonObjectConverter.class.getName(), jsonName);
-            }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonArrayConverter.class)){
-                out.tab(5).println(".%s(%s.getInstance().from(json.getString(\"%s\")))", setter, JsonArrayConverter.class.getName(), jsonName);
+                positional = false;
+            }else if((getter = generateJsonGetter(table, column, columnType, "json", String.format("\"%s\"", jsonName))) != null){
+                out.tab(5).println(".%s(%s)", setter, getter);
             }else{
                 logger.warn(String.format("Omitting unrecognized type %s for column %s in table %s!",columnType,column.getName(),table.getName()));
                 out.tab(5).println(String.format("// Omitting unrecognized type %s for column %s!",columnType,column.getName()));
             }
         }
         out.tab(5).println(";");
+        generateResetChanges(3, out);
+        out.tab(2).println("}");
+        if(positional){
+            List<ColumnDefinition> columns = table.getColumns();
+            out.println();
+            out.tab(2).println("@Override");
+            out.tab(2).println("public java.util.function.Function<%s, %s> forColumns(java.util.List<String> columnNames) {", JsonArray.class.getName(), pType);
+            out.tab(3).println("int[] i = %s.indexesOf(columnNames, %s);", RowMapper.class.getName(),
+                    columns.stream().map(c -> String.format("\"%s\"", getJsonName(c))).collect(Collectors.joining(", ")));
+            out.tab(3).println("if(i == null){");
+            out.tab(4).println("return %s.super.forColumns(columnNames);", RowMapper.class.getName());
+            out.tab(3).println("}");
+            if(generateChangeTracking){
+                out.tab(3).println("return row -> {");
+                out.tab(4).println("%s pojo = new %s()", pType, pType);
+            }else{
+                out.tab(3).println("return row -> new %s()", pType);
+            }
+            for (int index = 0; index < columns.size(); index++) {
+                ColumnDefinition column = columns.get(index);
+                String getter = generateJsonGetter(table, column, getJavaType(column.getType()), "row", String.format("i[%d]", index));
+                if(getter != null){
+                    out.tab(5).println(".%s(%s)", getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.INTERFACE), getter);
+                }
+            }
+            out.tab(5).println(";");
+            if(generateChangeTracking){
+                generateResetChanges(4, out);
+                out.tab(3).println("};");
+            }
+            out.tab(2).println("}");
+        }
+        out.tab(1).println("};");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public %s jsonMapper() {", rowMapper);
+        out.tab(2).println("return JSON_MAPPER;");
         out.tab(1).println("}");
         out.println();
     }
 
+    /**
+     * A fetched POJO has no changes.
+     */
+    private void generateResetChanges(int tabs, JavaWriter out){
+        if(generateChangeTracking){
+            out.tab(tabs).println("pojo.resetChanges();");
+            out.tab(tabs).println("return pojo;");
+        }
+    }
+
+    /**
+     * @param table the table
+     * @param column the column
+     * @param columnType the type of the column
+     * @param source the name of the <code>JsonObject</code> or <code>JsonArray</code> to read from
+     * @param key the key or index of the column in the source
+     * @return an expression reading the value of the column from the source or <code>null</code> if the type of the
+     * column is not supported.
+     */
+    private String generateJsonGetter(TableDefinition table, ColumnDefinition column, String columnType, String source, String key){
+        if(isType(columnType, Integer.class)){
+            return String.format("%s.getInteger(%s)", source, key);
+        }else if(isType(columnType, Short.class)){
+            return String.format("%s.getInteger(%s)==null?null:%s.getInteger(%s).shortValue()", source, key, source, key);
+        }else if(isType(columnType, Byte.class)){
+            return String.format("%s.getInteger(%s)==null?null:%s.getInteger(%s).byteValue()", source, key, source, key);
+        }else if(isType(columnType, Long.class)){
+            return String.format("%s.getLong(%s)", source, key);
+        }else if(isType(columnType, Float.class)){
+            return String.format("%s.getFloat(%s)", source, key);
+        }else if(isType(columnType, Double.class)){
+            return String.format("%s.getDouble(%s)", source, key);
+        }else if(isType(columnType, Boolean.class)){
+            return String.format("%s.getBoolean(%s)", source, key);
+        }else if(isType(columnType, String.class)){
+            return String.format("%s.getString(%s)", source, key);
+        }else if(columnType.equals(byte.class.getName()+"[]")){
+            return String.format("%s.getBinary(%s)", source, key);
+        }else if(isType(columnType,Instant.class)){
+            return String.format("%s.getInstant(%s)", source, key);
+        }else if(isEnum(table, column)) {
+            return String.format("java.util.Arrays.stream(%s.values()).filter(td -> td.getLiteral().equals(%s.getString(%s))).findFirst().orElse(null)", columnType, source, key);
+        }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonObjectConverter.class)){
+            return String.format("%s.getInstance().from(%s.getString(%s))", JsonObjectConverter.class.getName(), source, key);
+        }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonArrayConverter.class)){
+            return String.format("%s.getInstance().from(%s.getString(%s))", JsonArrayConverter.class.getName(), source, key);
+        }
+        return null;
+    }
+
     private boolean isEnum(TableDefinition table, TypedElementDefinition<?> column) {
         return table.getDatabase().getEnum(table.getSchema(), column.getType().getUserType()) != null;
     }
@@ -314,6 +518,37 @@ public abstract class AbstractVertxGenerator extends JavaGenerator {
         return false;
     }
 
+    /**
+     * POJOs start out with all columns changed, so POJOs that are not created by a row mapper, e.g. by one of the
+     * constructors or by deserialization, are updated completely. The row mappers reset the changes.
+     */
+    private void generateChangeTracking(TableDefinition table, JavaWriter out){
+        int columns = table.getColumns().size();
+        out.println();
+        out.tab(1).println("private transient java.util.BitSet changedColumns = allColumnsChanged();");
+        out.println();
+        out.tab(1).println("private static java.util.BitSet allColumnsChanged() {");
+        out.tab(2).println("java.util.BitSet changedColumns = new java.util.BitSet(%d);", columns);
+        out.tab(2).println("changedColumns.set(0, %d);", columns);
+        out.tab(2).println("return changedColumns;");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {");
+        out.tab(2).println("in.defaultReadObject();");
+        out.tab(2).println("changedColumns = allColumnsChanged();");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public java.util.BitSet changedColumns() {");
+        out.tab(2).println("return (java.util.BitSet) changedColumns.clone();");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("@Override");
+        out.tab(1).println("public void resetChanges() {");
+        out.tab(2).println("changedColumns.clear();");
+        out.tab(1).println("}");
+    }
+
     private void generateFromJsonConstructor(TableDefinition table, JavaWriter out){
         final String className = getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.POJO);
         out.println();
@@ -360,6 +595,55 @@ public abstract class AbstractVertxGenerator extends JavaGenerator {
 
     protected abstract void generateFetchByMethods(JavaWriter out, String pType, String colName, String colClass, String colType, String colIdentifier) ;
 
+    /**
+     * Generates a seekByXYZAsync-method for the primary key and each unique key, fetching a page of records ordered by
+     * the key after a given key value.
+     * @param table
+     * @param out
+     */
+    protected void generateSeekMethods(TableDefinition table, JavaWriter out){
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        String pType = vOut.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
+        List<UniqueKeyDefinition> keys = new ArrayList<>();
+        if(table.getPrimaryKey() != null){
+            keys.add(table.getPrimaryKey());
+        }
+        keys.addAll(table.getUniqueKeys());
+        Set<List<ColumnDefinition>> generated = new HashSet<>();
+        for (UniqueKeyDefinition key : keys) {
+            List<ColumnDefinition> keyColumns = key.getKeyColumns();
+            if(!generated.add(keyColumns)){
+                continue;
+            }
+            List<String> colNames = new ArrayList<>();
+            List<String> params = new ArrayList<>();
+            List<String> paramDeclarations = new ArrayList<>();
+            List<String> orderFields = new ArrayList<>();
+            StringBuilder keyClass = new StringBuilder();
+            for (ColumnDefinition column : keyColumns) {
+                String colClass = getStrategy().getJavaClassName(column);
+                String param = "after" + colClass;
+                colNames.add(column.getOutputName());
+                keyClass.append(colClass);
+                params.add(param);
+                paramDeclarations.add(vOut.ref(getJavaType(column.getType())) + " " + param);
+                orderFields.add(vOut.ref(getStrategy().getFullJavaIdentifier(column), colRefSegments(column)) + ".asc()");
+            }
+            String fetchPageArgs = String.format("%s.trueCondition(), %s.asList(%s), %s == null ? null : new Object[]{%s}, limit",
+                    vOut.ref(DSL.class.getName()), vOut.ref(Arrays.class.getName()), String.join(", ", orderFields),
+                    params.get(0), String.join(", ", params));
+            generateSeekByMethods(out, pType, String.join(", ", colNames), keyClass.toString(), String.join(", ", paramDeclarations), fetchPageArgs);
+        }
+    }
+
+    /**
+     * @param keyColumns the names of the key columns, used in the javadoc
+     * @param keyClass the suffix of the method name
+     * @param afterParams the declaration of the parameters holding the key of the last record of the previous page
+     * @param fetchPageArgs the arguments of the <code>fetchPageAsync</code>-call without the flavor specific ones
+     */
+    protected abstract void generateSeekByMethods(JavaWriter out, String pType, String keyColumns, String keyClass, String afterParams, String fetchPageArgs);
+
     /**
      * Copied from JavaGenerator
      * @param key
@@ -1,7 +1,6 @@
 package io.github.jklingsporn.vertx.jooq.async.generate.classic;
 
 import io.github.jklingsporn.vertx.jooq.async.generate.AbstractVertxGenerator;
-import org.jooq.util.GeneratorStrategy;
 import org.jooq.util.JavaWriter;
 import org.jooq.util.TableDefinition;
 
@@ -39,6 +38,14 @@ public class ClassicAsyncVertxGenerator extends AbstractVertxGenerator {
         out.tab(1).println("}");
     }
 
+    @Override
+    protected void generateSeekByMethods(JavaWriter out, String pType, String keyColumns, String keyClass, String afterParams, String fetchPageArgs) {
+        out.tab(1).javadoc("Fetch a page of records ordered by <code>%s</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.", keyColumns);
+        out.tab(1).println("public void seekBy%sAsync(%s, int limit, Handler<AsyncResult<List<%s>>> resultHandler) {", keyClass, afterParams, pType);
+        out.tab(2).println("fetchPageAsync(%s, resultHandler);", fetchPageArgs);
+        out.tab(1).println("}");
+    }
+
     @Override
     protected void generateVertxGetterAndSetterConfigurationMethod(JavaWriter out) {
         //nothing
@@ -68,16 +75,4 @@ public class ClassicAsyncVertxGenerator extends AbstractVertxGenerator {
         out.println();
     }
 
-    @Override
-    protected void renderInsertReturningOverwrite(TableDefinition table, JavaWriter out, String reason) {
-        out.println();
-        out.tab(1).println("@Override");
-        out.tab(1).println("public void insertReturningPrimaryAsync(%s object, Handler<AsyncResult<%s>> resultHandler){",
-                out.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO)),
-                getKeyType(table.getPrimaryKey()));
-        out.tab(2).println("throw new UnsupportedOperationException(\"%s\");",reason);
-        out.tab(1).println("}");
-        out.println();
-    }
-
 }
@@ -1,9 +1,7 @@
 package io.github.jklingsporn.vertx.jooq.async.generate.classic;
 
 import io.github.jklingsporn.vertx.jooq.async.generate.AbstractVertxGuiceGenerator;
-import org.jooq.util.GeneratorStrategy;
 import org.jooq.util.JavaWriter;
-import org.jooq.util.TableDefinition;
 
 import java.util.List;
 
@@ -26,18 +24,6 @@ public class ClassicAsyncVertxGuiceGenerator extends AbstractVertxGuiceGenerator
         out.println("import io.vertx.core.AsyncResult;");
     }
 
-    @Override
-    protected void renderInsertReturningOverwrite(TableDefinition table, JavaWriter out, String reason) {
-        out.println();
-        out.tab(1).println("@Override");
-        out.tab(1).println("public void insertReturningPrimaryAsync(%s object, Handler<AsyncResult<%s>> resultHandler){",
-                out.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO)),
-                getKeyType(table.getPrimaryKey()));
-        out.tab(2).println("throw new UnsupportedOperationException(\"%s\");",reason);
-        out.tab(1).println("}");
-        out.println();
-    }
-
     @Override
     protected void generateFetchOneByMethods(JavaWriter out, String pType, String colName, String colClass, String colType, String colIdentifier) {
         out.tab(1).javadoc("Fetch a unique record that has <code>%s = value</code> asynchronously", colName);
@@ -55,4 +41,12 @@ public class ClassicAsyncVertxGuiceGenerator extends AbstractVertxGuiceGenerator
         out.tab(2).println("fetchAsync(%s,values,resultHandler);", colIdentifier);
         out.tab(1).println("}");
     }
+
+    @Override
+    protected void generateSeekByMethods(JavaWriter out, String pType, String keyColumns, String keyClass, String afterParams, String fetchPageArgs) {
+        out.tab(1).javadoc("Fetch a page of records ordered by <code>%s</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.", keyColumns);
+        out.tab(1).println("public void seekBy%sAsync(%s, int limit, Handler<AsyncResult<List<%s>>> resultHandler) {", keyClass, afterParams, pType);
+        out.tab(2).println("fetchPageAsync(%s, resultHandler);", fetchPageArgs);
+        out.tab(1).println("}");
+    }
 }
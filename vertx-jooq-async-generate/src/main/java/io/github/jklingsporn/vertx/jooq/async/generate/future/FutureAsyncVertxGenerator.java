@@ -38,13 +38,16 @@ public class FutureAsyncVertxGenerator extends AbstractVertxGenerator {
     }
 
     @Override
-    protected void generateVertxGetterAndSetterConfigurationMethod(JavaWriter out) {
-        //noop
+    protected void generateSeekByMethods(JavaWriter out, String pType, String keyColumns, String keyClass, String afterParams, String fetchPageArgs) {
+        out.tab(1).javadoc("Fetch a page of records ordered by <code>%s</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.", keyColumns);
+        out.tab(1).println("public CompletableFuture<List<%s>> seekBy%sAsync(%s, int limit) {", pType, keyClass, afterParams);
+        out.tab(2).println("return fetchPageAsync(%s);", fetchPageArgs);
+        out.tab(1).println("}");
     }
 
     @Override
-    protected void renderInsertReturningOverwrite(TableDefinition table, JavaWriter out, String reason) {
-
+    protected void generateVertxGetterAndSetterConfigurationMethod(JavaWriter out) {
+        //noop
     }
 
     @Override
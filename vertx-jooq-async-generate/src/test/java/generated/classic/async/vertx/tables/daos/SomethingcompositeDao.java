@@ -8,15 +8,21 @@ import generated.classic.async.vertx.tables.Somethingcomposite;
 import generated.classic.async.vertx.tables.records.SomethingcompositeRecord;
 
 import io.github.jklingsporn.vertx.jooq.async.classic.VertxDAO;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
 import org.jooq.Record2;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DAOImpl;
+import org.jooq.impl.DSL;
 
 
 import io.vertx.core.Handler;
@@ -99,9 +105,45 @@ public class SomethingcompositeDao extends DAOImpl<SomethingcompositeRecord, gen
         fetchAsync(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEJSONOBJECT,values,resultHandler);
     }
 
+    /**
+     * Fetch a page of records ordered by <code>someId, someSecondId</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.
+     */
+    public void seekBySomeidSomesecondidAsync(Integer afterSomeid, Integer afterSomesecondid, int limit, Handler<AsyncResult<List<generated.classic.async.vertx.tables.pojos.Somethingcomposite>>> resultHandler) {
+        fetchPageAsync(DSL.trueCondition(), Arrays.asList(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.asc(), Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID.asc()), afterSomeid == null ? null : new Object[]{afterSomeid, afterSomesecondid}, limit, resultHandler);
+    }
+
+    private static final StatementPlans STATEMENT_PLANS = new StatementPlans(
+            SQLDialect.MYSQL,
+            "select `somethingComposite`.`someId`, `somethingComposite`.`someSecondId`, `somethingComposite`.`someJsonObject` from `somethingComposite` where (`somethingComposite`.`someId`, `somethingComposite`.`someSecondId`) = (?, ?)",
+            "delete from `somethingComposite` where (`somethingComposite`.`someId`, `somethingComposite`.`someSecondId`) = (?, ?)",
+            "select count(*) from `somethingComposite`"
+    );
+
+    @Override
+    public StatementPlans statementPlans() {
+        return STATEMENT_PLANS;
+    }
+
+    private static final PojoWriter<generated.classic.async.vertx.tables.pojos.Somethingcomposite> POJO_WRITER = (pojo, values) -> {
+        values[0] = pojo.getSomeid();
+        values[1] = pojo.getSomesecondid();
+        values[2] = pojo.getSomejsonobject();
+    };
+
     @Override
-    public void insertReturningPrimaryAsync(generated.classic.async.vertx.tables.pojos.Somethingcomposite object, Handler<AsyncResult<org.jooq.Record2<java.lang.Integer, java.lang.Integer>>> resultHandler){
-        throw new UnsupportedOperationException("More than one PK column");
+    public PojoWriter<generated.classic.async.vertx.tables.pojos.Somethingcomposite> pojoWriter() {
+        return POJO_WRITER;
+    }
+
+    private static final RecordCopier<generated.classic.async.vertx.tables.pojos.Somethingcomposite, SomethingcompositeRecord> RECORD_COPIER = (pojo, record) -> {
+        record.setSomeid(pojo.getSomeid());
+        record.setSomesecondid(pojo.getSomesecondid());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+    };
+
+    @Override
+    public RecordCopier<generated.classic.async.vertx.tables.pojos.Somethingcomposite, SomethingcompositeRecord> recordCopier() {
+        return RECORD_COPIER;
     }
 
 
@@ -117,14 +159,40 @@ public class SomethingcompositeDao extends DAOImpl<SomethingcompositeRecord, gen
         return this.client;
     }
 
-    @Override
-    public java.util.function.Function<io.vertx.core.json.JsonObject, generated.classic.async.vertx.tables.pojos.Somethingcomposite> jsonMapper() {
-        return json -> 
-            new generated.classic.async.vertx.tables.pojos.Somethingcomposite()
+    private static final io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingcomposite> JSON_MAPPER = new io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingcomposite>() {
+
+        @Override
+        public generated.classic.async.vertx.tables.pojos.Somethingcomposite apply(io.vertx.core.json.JsonObject json) {
+            generated.classic.async.vertx.tables.pojos.Somethingcomposite pojo = new generated.classic.async.vertx.tables.pojos.Somethingcomposite()
                     .setSomeid(json.getInteger("someId"))
                     .setSomesecondid(json.getInteger("someSecondId"))
                     .setSomejsonobject(io.github.jklingsporn.vertx.jooq.async.shared.JsonObjectConverter.getInstance().from(json.getString("someJsonObject")))
                     ;
+            pojo.resetChanges();
+            return pojo;
+        }
+
+        @Override
+        public java.util.function.Function<io.vertx.core.json.JsonArray, generated.classic.async.vertx.tables.pojos.Somethingcomposite> forColumns(java.util.List<String> columnNames) {
+            int[] i = io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.indexesOf(columnNames, "someId", "someSecondId", "someJsonObject");
+            if(i == null){
+                return io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.super.forColumns(columnNames);
+            }
+            return row -> {
+                generated.classic.async.vertx.tables.pojos.Somethingcomposite pojo = new generated.classic.async.vertx.tables.pojos.Somethingcomposite()
+                    .setSomeid(row.getInteger(i[0]))
+                    .setSomesecondid(row.getInteger(i[1]))
+                    .setSomejsonobject(io.github.jklingsporn.vertx.jooq.async.shared.JsonObjectConverter.getInstance().from(row.getString(i[2])))
+                    ;
+                pojo.resetChanges();
+                return pojo;
+            };
+        }
+    };
+
+    @Override
+    public io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingcomposite> jsonMapper() {
+        return JSON_MAPPER;
     }
 
 }
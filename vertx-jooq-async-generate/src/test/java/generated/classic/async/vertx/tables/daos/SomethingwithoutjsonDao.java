@@ -8,13 +8,19 @@ import generated.classic.async.vertx.tables.Somethingwithoutjson;
 import generated.classic.async.vertx.tables.records.SomethingwithoutjsonRecord;
 
 import io.github.jklingsporn.vertx.jooq.async.classic.VertxDAO;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DAOImpl;
+import org.jooq.impl.DSL;
 
 
 import io.vertx.core.Handler;
@@ -97,6 +103,46 @@ public class SomethingwithoutjsonDao extends DAOImpl<SomethingwithoutjsonRecord,
         fetchAsync(Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMESTRING,values,resultHandler);
     }
 
+    /**
+     * Fetch a page of records ordered by <code>someId</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.
+     */
+    public void seekBySomeidAsync(Integer afterSomeid, int limit, Handler<AsyncResult<List<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson>>> resultHandler) {
+        fetchPageAsync(DSL.trueCondition(), Arrays.asList(Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.asc()), afterSomeid == null ? null : new Object[]{afterSomeid}, limit, resultHandler);
+    }
+
+    private static final StatementPlans STATEMENT_PLANS = new StatementPlans(
+            SQLDialect.MYSQL,
+            "select `somethingWithoutJson`.`someId`, `somethingWithoutJson`.`someString` from `somethingWithoutJson` where `somethingWithoutJson`.`someId` = ?",
+            "delete from `somethingWithoutJson` where `somethingWithoutJson`.`someId` = ?",
+            "select count(*) from `somethingWithoutJson`"
+    );
+
+    @Override
+    public StatementPlans statementPlans() {
+        return STATEMENT_PLANS;
+    }
+
+    private static final PojoWriter<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> POJO_WRITER = (pojo, values) -> {
+        values[0] = pojo.getSomeid();
+        values[1] = pojo.getSomestring();
+    };
+
+    @Override
+    public PojoWriter<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> pojoWriter() {
+        return POJO_WRITER;
+    }
+
+    private static final RecordCopier<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson, SomethingwithoutjsonRecord> RECORD_COPIER = (pojo, record) -> {
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+    };
+
+    @Override
+    public RecordCopier<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson, SomethingwithoutjsonRecord> recordCopier() {
+        return RECORD_COPIER;
+    }
+
+
     private AsyncJooqSQLClient client;
 
     @Override
@@ -109,13 +155,38 @@ public class SomethingwithoutjsonDao extends DAOImpl<SomethingwithoutjsonRecord,
         return this.client;
     }
 
-    @Override
-    public java.util.function.Function<io.vertx.core.json.JsonObject, generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> jsonMapper() {
-        return json -> 
-            new generated.classic.async.vertx.tables.pojos.Somethingwithoutjson()
+    private static final io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> JSON_MAPPER = new io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson>() {
+
+        @Override
+        public generated.classic.async.vertx.tables.pojos.Somethingwithoutjson apply(io.vertx.core.json.JsonObject json) {
+            generated.classic.async.vertx.tables.pojos.Somethingwithoutjson pojo = new generated.classic.async.vertx.tables.pojos.Somethingwithoutjson()
                     .setSomeid(json.getInteger("someId"))
                     .setSomestring(json.getString("someString"))
                     ;
+            pojo.resetChanges();
+            return pojo;
+        }
+
+        @Override
+        public java.util.function.Function<io.vertx.core.json.JsonArray, generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> forColumns(java.util.List<String> columnNames) {
+            int[] i = io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.indexesOf(columnNames, "someId", "someString");
+            if(i == null){
+                return io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.super.forColumns(columnNames);
+            }
+            return row -> {
+                generated.classic.async.vertx.tables.pojos.Somethingwithoutjson pojo = new generated.classic.async.vertx.tables.pojos.Somethingwithoutjson()
+                    .setSomeid(row.getInteger(i[0]))
+                    .setSomestring(row.getString(i[1]))
+                    ;
+                pojo.resetChanges();
+                return pojo;
+            };
+        }
+    };
+
+    @Override
+    public io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.classic.async.vertx.tables.pojos.Somethingwithoutjson> jsonMapper() {
+        return JSON_MAPPER;
     }
 
 }
@@ -25,7 +25,7 @@ import javax.annotation.Generated;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Something implements ISomething {
 
-    private static final long serialVersionUID = 1759525011;
+    private static final long serialVersionUID = 1943171866;
 
     private Integer    someid;
     private String     somestring;
@@ -81,6 +81,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomeid(Integer someid) {
         this.someid = someid;
+        this.changedColumns.set(0);
         return this;
     }
 
@@ -92,6 +93,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomestring(String somestring) {
         this.somestring = somestring;
+        this.changedColumns.set(1);
         return this;
     }
 
@@ -103,6 +105,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomehugenumber(Long somehugenumber) {
         this.somehugenumber = somehugenumber;
+        this.changedColumns.set(2);
         return this;
     }
 
@@ -114,6 +117,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomesmallnumber(Short somesmallnumber) {
         this.somesmallnumber = somesmallnumber;
+        this.changedColumns.set(3);
         return this;
     }
 
@@ -125,6 +129,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomeregularnumber(Integer someregularnumber) {
         this.someregularnumber = someregularnumber;
+        this.changedColumns.set(4);
         return this;
     }
 
@@ -136,6 +141,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomedouble(Double somedouble) {
         this.somedouble = somedouble;
+        this.changedColumns.set(5);
         return this;
     }
 
@@ -147,6 +153,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomeenum(String someenum) {
         this.someenum = someenum;
+        this.changedColumns.set(6);
         return this;
     }
 
@@ -158,6 +165,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomejsonobject(JsonObject somejsonobject) {
         this.somejsonobject = somejsonobject;
+        this.changedColumns.set(7);
         return this;
     }
 
@@ -169,6 +177,7 @@ public class Something implements ISomething {
     @Override
     public Something setSomejsonarray(JsonArray somejsonarray) {
         this.somejsonarray = somejsonarray;
+        this.changedColumns.set(8);
         return this;
     }
 
@@ -301,6 +310,29 @@ public class Something implements ISomething {
         return into;
     }
 
+    private transient java.util.BitSet changedColumns = allColumnsChanged();
+
+    private static java.util.BitSet allColumnsChanged() {
+        java.util.BitSet changedColumns = new java.util.BitSet(9);
+        changedColumns.set(0, 9);
+        return changedColumns;
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changedColumns = allColumnsChanged();
+    }
+
+    @Override
+    public java.util.BitSet changedColumns() {
+        return (java.util.BitSet) changedColumns.clone();
+    }
+
+    @Override
+    public void resetChanges() {
+        changedColumns.clear();
+    }
+
     public Something(io.vertx.core.json.JsonObject json) {
         fromJson(json);
     }
@@ -24,7 +24,7 @@ import javax.annotation.Generated;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Somethingcomposite implements ISomethingcomposite {
 
-    private static final long serialVersionUID = -2005802168;
+    private static final long serialVersionUID = -83254826;
 
     private Integer    someid;
     private Integer    somesecondid;
@@ -56,6 +56,7 @@ public class Somethingcomposite implements ISomethingcomposite {
     @Override
     public Somethingcomposite setSomeid(Integer someid) {
         this.someid = someid;
+        this.changedColumns.set(0);
         return this;
     }
 
@@ -67,6 +68,7 @@ public class Somethingcomposite implements ISomethingcomposite {
     @Override
     public Somethingcomposite setSomesecondid(Integer somesecondid) {
         this.somesecondid = somesecondid;
+        this.changedColumns.set(1);
         return this;
     }
 
@@ -78,6 +80,7 @@ public class Somethingcomposite implements ISomethingcomposite {
     @Override
     public Somethingcomposite setSomejsonobject(JsonObject somejsonobject) {
         this.somejsonobject = somejsonobject;
+        this.changedColumns.set(2);
         return this;
     }
 
@@ -156,6 +159,29 @@ public class Somethingcomposite implements ISomethingcomposite {
         return into;
     }
 
+    private transient java.util.BitSet changedColumns = allColumnsChanged();
+
+    private static java.util.BitSet allColumnsChanged() {
+        java.util.BitSet changedColumns = new java.util.BitSet(3);
+        changedColumns.set(0, 3);
+        return changedColumns;
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changedColumns = allColumnsChanged();
+    }
+
+    @Override
+    public java.util.BitSet changedColumns() {
+        return (java.util.BitSet) changedColumns.clone();
+    }
+
+    @Override
+    public void resetChanges() {
+        changedColumns.clear();
+    }
+
     public Somethingcomposite(io.vertx.core.json.JsonObject json) {
         fromJson(json);
     }
@@ -22,7 +22,7 @@ import javax.annotation.Generated;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Somethingwithoutjson implements ISomethingwithoutjson {
 
-    private static final long serialVersionUID = -398620438;
+    private static final long serialVersionUID = 200544709;
 
     private Integer someid;
     private String  somestring;
@@ -50,6 +50,7 @@ public class Somethingwithoutjson implements ISomethingwithoutjson {
     @Override
     public Somethingwithoutjson setSomeid(Integer someid) {
         this.someid = someid;
+        this.changedColumns.set(0);
         return this;
     }
 
@@ -61,6 +62,7 @@ public class Somethingwithoutjson implements ISomethingwithoutjson {
     @Override
     public Somethingwithoutjson setSomestring(String somestring) {
         this.somestring = somestring;
+        this.changedColumns.set(1);
         return this;
     }
 
@@ -130,6 +132,29 @@ public class Somethingwithoutjson implements ISomethingwithoutjson {
         return into;
     }
 
+    private transient java.util.BitSet changedColumns = allColumnsChanged();
+
+    private static java.util.BitSet allColumnsChanged() {
+        java.util.BitSet changedColumns = new java.util.BitSet(2);
+        changedColumns.set(0, 2);
+        return changedColumns;
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changedColumns = allColumnsChanged();
+    }
+
+    @Override
+    public java.util.BitSet changedColumns() {
+        return (java.util.BitSet) changedColumns.clone();
+    }
+
+    @Override
+    public void resetChanges() {
+        changedColumns.clear();
+    }
+
     public Somethingwithoutjson(io.vertx.core.json.JsonObject json) {
         fromJson(json);
     }
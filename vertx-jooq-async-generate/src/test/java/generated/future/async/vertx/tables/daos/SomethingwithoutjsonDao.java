@@ -8,13 +8,19 @@ import generated.future.async.vertx.tables.Somethingwithoutjson;
 import generated.future.async.vertx.tables.records.SomethingwithoutjsonRecord;
 
 import io.github.jklingsporn.vertx.jooq.async.future.VertxDAO;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DAOImpl;
+import org.jooq.impl.DSL;
 
 
 import java.util.concurrent.CompletableFuture;
@@ -96,6 +102,46 @@ public class SomethingwithoutjsonDao extends DAOImpl<SomethingwithoutjsonRecord,
         return fetchAsync(Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMESTRING,values);
     }
 
+    /**
+     * Fetch a page of records ordered by <code>someId</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.
+     */
+    public CompletableFuture<List<generated.future.async.vertx.tables.pojos.Somethingwithoutjson>> seekBySomeidAsync(Integer afterSomeid, int limit) {
+        return fetchPageAsync(DSL.trueCondition(), Arrays.asList(Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.asc()), afterSomeid == null ? null : new Object[]{afterSomeid}, limit);
+    }
+
+    private static final StatementPlans STATEMENT_PLANS = new StatementPlans(
+            SQLDialect.MYSQL,
+            "select `somethingWithoutJson`.`someId`, `somethingWithoutJson`.`someString` from `somethingWithoutJson` where `somethingWithoutJson`.`someId` = ?",
+            "delete from `somethingWithoutJson` where `somethingWithoutJson`.`someId` = ?",
+            "select count(*) from `somethingWithoutJson`"
+    );
+
+    @Override
+    public StatementPlans statementPlans() {
+        return STATEMENT_PLANS;
+    }
+
+    private static final PojoWriter<generated.future.async.vertx.tables.pojos.Somethingwithoutjson> POJO_WRITER = (pojo, values) -> {
+        values[0] = pojo.getSomeid();
+        values[1] = pojo.getSomestring();
+    };
+
+    @Override
+    public PojoWriter<generated.future.async.vertx.tables.pojos.Somethingwithoutjson> pojoWriter() {
+        return POJO_WRITER;
+    }
+
+    private static final RecordCopier<generated.future.async.vertx.tables.pojos.Somethingwithoutjson, SomethingwithoutjsonRecord> RECORD_COPIER = (pojo, record) -> {
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+    };
+
+    @Override
+    public RecordCopier<generated.future.async.vertx.tables.pojos.Somethingwithoutjson, SomethingwithoutjsonRecord> recordCopier() {
+        return RECORD_COPIER;
+    }
+
+
     private AsyncJooqSQLClient client;
 
     @Override
@@ -108,13 +154,32 @@ public class SomethingwithoutjsonDao extends DAOImpl<SomethingwithoutjsonRecord,
         return this.client;
     }
 
-    @Override
-    public java.util.function.Function<io.vertx.core.json.JsonObject, generated.future.async.vertx.tables.pojos.Somethingwithoutjson> jsonMapper() {
-        return json -> 
-            new generated.future.async.vertx.tables.pojos.Somethingwithoutjson()
+    private static final io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.future.async.vertx.tables.pojos.Somethingwithoutjson> JSON_MAPPER = new io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.future.async.vertx.tables.pojos.Somethingwithoutjson>() {
+
+        @Override
+        public generated.future.async.vertx.tables.pojos.Somethingwithoutjson apply(io.vertx.core.json.JsonObject json) {
+            return new generated.future.async.vertx.tables.pojos.Somethingwithoutjson()
                     .setSomeid(json.getInteger("someId"))
                     .setSomestring(json.getString("someString"))
                     ;
+        }
+
+        @Override
+        public java.util.function.Function<io.vertx.core.json.JsonArray, generated.future.async.vertx.tables.pojos.Somethingwithoutjson> forColumns(java.util.List<String> columnNames) {
+            int[] i = io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.indexesOf(columnNames, "someId", "someString");
+            if(i == null){
+                return io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.super.forColumns(columnNames);
+            }
+            return row -> new generated.future.async.vertx.tables.pojos.Somethingwithoutjson()
+                    .setSomeid(row.getInteger(i[0]))
+                    .setSomestring(row.getString(i[1]))
+                    ;
+        }
+    };
+
+    @Override
+    public io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.future.async.vertx.tables.pojos.Somethingwithoutjson> jsonMapper() {
+        return JSON_MAPPER;
     }
 
 }
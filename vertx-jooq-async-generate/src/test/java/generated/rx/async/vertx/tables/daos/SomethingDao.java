@@ -6,17 +6,30 @@ package generated.rx.async.vertx.tables.daos;
 
 import generated.rx.async.vertx.tables.Something;
 import generated.rx.async.vertx.tables.records.SomethingRecord;
-import io.github.jklingsporn.vertx.jooq.async.rx.AsyncJooqSQLClient;
+
 import io.github.jklingsporn.vertx.jooq.async.rx.VertxDAO;
-import io.reactivex.Observable;
-import io.reactivex.Single;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Generated;
+
 import org.jooq.Configuration;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DAOImpl;
+import org.jooq.impl.DSL;
 
-import javax.annotation.Generated;
-import java.util.List;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.github.jklingsporn.vertx.jooq.async.rx.util.RXTool;
+import io.github.jklingsporn.vertx.jooq.async.rx.AsyncJooqSQLClient;
 /**
  * This class is generated by jOOQ.
  */
@@ -255,6 +268,60 @@ public class SomethingDao extends DAOImpl<SomethingRecord, generated.rx.async.ve
         return fetchObservable(Something.SOMETHING.SOMEJSONARRAY,values);
     }
 
+    /**
+     * Fetch a page of records ordered by <code>someId</code> asynchronously. Only records after the given key are fetched, pass <code>null</code> to fetch the first page.
+     */
+    public Single<List<generated.rx.async.vertx.tables.pojos.Something>> seekBySomeidAsync(Integer afterSomeid, int limit) {
+        return fetchPageAsync(DSL.trueCondition(), Arrays.asList(Something.SOMETHING.SOMEID.asc()), afterSomeid == null ? null : new Object[]{afterSomeid}, limit);
+    }
+
+    private static final StatementPlans STATEMENT_PLANS = new StatementPlans(
+            SQLDialect.MYSQL,
+            "select `something`.`someId`, `something`.`someString`, `something`.`someHugeNumber`, `something`.`someSmallNumber`, `something`.`someRegularNumber`, `something`.`someDouble`, `something`.`someEnum`, `something`.`someJsonObject`, `something`.`someJsonArray` from `something` where `something`.`someId` = ?",
+            "delete from `something` where `something`.`someId` = ?",
+            "select count(*) from `something`"
+    );
+
+    @Override
+    public StatementPlans statementPlans() {
+        return STATEMENT_PLANS;
+    }
+
+    private static final PojoWriter<generated.rx.async.vertx.tables.pojos.Something> POJO_WRITER = (pojo, values) -> {
+        values[0] = pojo.getSomeid();
+        values[1] = pojo.getSomestring();
+        values[2] = pojo.getSomehugenumber();
+        values[3] = pojo.getSomesmallnumber();
+        values[4] = pojo.getSomeregularnumber();
+        values[5] = pojo.getSomedouble();
+        values[6] = pojo.getSomeenum();
+        values[7] = pojo.getSomejsonobject();
+        values[8] = pojo.getSomejsonarray();
+    };
+
+    @Override
+    public PojoWriter<generated.rx.async.vertx.tables.pojos.Something> pojoWriter() {
+        return POJO_WRITER;
+    }
+
+    private static final RecordCopier<generated.rx.async.vertx.tables.pojos.Something, SomethingRecord> RECORD_COPIER = (pojo, record) -> {
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+        record.setSomehugenumber(pojo.getSomehugenumber());
+        record.setSomesmallnumber(pojo.getSomesmallnumber());
+        record.setSomeregularnumber(pojo.getSomeregularnumber());
+        record.setSomedouble(pojo.getSomedouble());
+        record.setSomeenum(pojo.getSomeenum());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+        record.setSomejsonarray(pojo.getSomejsonarray());
+    };
+
+    @Override
+    public RecordCopier<generated.rx.async.vertx.tables.pojos.Something, SomethingRecord> recordCopier() {
+        return RECORD_COPIER;
+    }
+
+
     private AsyncJooqSQLClient client;
 
     @Override
@@ -267,9 +334,46 @@ public class SomethingDao extends DAOImpl<SomethingRecord, generated.rx.async.ve
         return this.client;
     }
 
+    private static final io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.rx.async.vertx.tables.pojos.Something> JSON_MAPPER = new io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.rx.async.vertx.tables.pojos.Something>() {
+
+        @Override
+        public generated.rx.async.vertx.tables.pojos.Something apply(io.vertx.core.json.JsonObject json) {
+            return new generated.rx.async.vertx.tables.pojos.Something()
+                    .setSomeid(json.getInteger("someId"))
+                    .setSomestring(json.getString("someString"))
+                    .setSomehugenumber(json.getLong("someHugeNumber"))
+                    .setSomesmallnumber(json.getInteger("someSmallNumber")==null?null:json.getInteger("someSmallNumber").shortValue())
+                    .setSomeregularnumber(json.getInteger("someRegularNumber"))
+                    .setSomedouble(json.getDouble("someDouble"))
+                    .setSomeenum(json.getString("someEnum"))
+                    .setSomejsonobject(io.github.jklingsporn.vertx.jooq.async.shared.JsonObjectConverter.getInstance().from(json.getString("someJsonObject")))
+                    .setSomejsonarray(io.github.jklingsporn.vertx.jooq.async.shared.JsonArrayConverter.getInstance().from(json.getString("someJsonArray")))
+                    ;
+        }
+
+        @Override
+        public java.util.function.Function<io.vertx.core.json.JsonArray, generated.rx.async.vertx.tables.pojos.Something> forColumns(java.util.List<String> columnNames) {
+            int[] i = io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.indexesOf(columnNames, "someId", "someString", "someHugeNumber", "someSmallNumber", "someRegularNumber", "someDouble", "someEnum", "someJsonObject", "someJsonArray");
+            if(i == null){
+                return io.github.jklingsporn.vertx.jooq.async.shared.RowMapper.super.forColumns(columnNames);
+            }
+            return row -> new generated.rx.async.vertx.tables.pojos.Something()
+                    .setSomeid(row.getInteger(i[0]))
+                    .setSomestring(row.getString(i[1]))
+                    .setSomehugenumber(row.getLong(i[2]))
+                    .setSomesmallnumber(row.getInteger(i[3])==null?null:row.getInteger(i[3]).shortValue())
+                    .setSomeregularnumber(row.getInteger(i[4]))
+                    .setSomedouble(row.getDouble(i[5]))
+                    .setSomeenum(row.getString(i[6]))
+                    .setSomejsonobject(io.github.jklingsporn.vertx.jooq.async.shared.JsonObjectConverter.getInstance().from(row.getString(i[7])))
+                    .setSomejsonarray(io.github.jklingsporn.vertx.jooq.async.shared.JsonArrayConverter.getInstance().from(row.getString(i[8])))
+                    ;
+        }
+    };
+
     @Override
-    public java.util.function.Function<io.vertx.core.json.JsonObject, generated.rx.async.vertx.tables.pojos.Something> jsonMapper() {
-        return generated.rx.async.vertx.tables.pojos.Something::new;
+    public io.github.jklingsporn.vertx.jooq.async.shared.RowMapper<generated.rx.async.vertx.tables.pojos.Something> jsonMapper() {
+        return JSON_MAPPER;
     }
 
 }
@@ -0,0 +1,65 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import io.github.jklingsporn.vertx.jooq.async.shared.DAOSettings;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Configuration;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class InListPaddingTest {
+
+    @Test
+    public void inListsShouldBePaddedToTheNextPowerOfTwo() {
+        SomethingDao dao = paddingDao(1000);
+        List<Query> five = fetchIn(dao, 5);
+        List<Query> seven = fetchIn(dao, 7);
+        Assert.assertEquals(1, five.size());
+        Assert.assertEquals(8, five.get(0).getBindValues().size());
+        Assert.assertEquals(5, five.get(0).getBindValues().get(7));
+        Assert.assertEquals(five.get(0).getSQL(), seven.get(0).getSQL());
+        Assert.assertEquals(8, fetchIn(dao, 8).get(0).getBindValues().size());
+    }
+
+    @Test
+    public void paddedChunksShouldNotExceedMaxInListSize() {
+        List<Query> queries = fetchIn(paddingDao(6), 9);
+        Assert.assertEquals(Arrays.asList(6, 4), queries.stream().map(q -> q.getBindValues().size()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void paddedInListsShouldReuseRenderedSQL() {
+        SQLRenderCache renderCache = new SQLRenderCache(SQLRenderCache.DEFAULT_MAX_SIZE);
+        SomethingDao dao = paddingDao(1000);
+        IntStream.rangeClosed(5, 8).forEach(size -> renderCache.getSQL(fetchIn(dao, size).get(0)));
+        Assert.assertEquals(3, renderCache.hits());
+        Assert.assertEquals(0.75, renderCache.hitRatio(), 0.0);
+    }
+
+    @Test
+    public void inListsShouldNotBePaddedByDefault() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        Assert.assertEquals(5, fetchIn(dao, 5).get(0).getBindValues().size());
+    }
+
+    private static SomethingDao paddingDao(int maxInListSize){
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInListSize(maxInListSize).withInListPadding(true).applyTo(configuration);
+        return new SomethingDao(configuration);
+    }
+
+    private static List<Query> fetchIn(SomethingDao dao, int size){
+        List<Integer> ids = IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList());
+        return VertxDAOHelper.fetchInAsync(Tables.SOMETHING.SOMEID, ids, dao, (queries, parallelism) -> queries);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import generated.classic.async.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.async.vertx.tables.pojos.Something;
+import generated.classic.async.vertx.tables.pojos.Somethingcomposite;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class InsertReturningTest {
+
+    @Test
+    public void insertReturningPrimaryOnPostgresShouldUseReturning() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        Integer key = VertxDAOHelper.insertReturningPrimaryAsync(new Something().setSomestring("test"), dao,
+                (query, keyConverter) -> {
+                    throw new AssertionError("last id used");
+                },
+                (query, mapper) -> {
+                    String sql = query.getSQL().toLowerCase();
+                    Assert.assertTrue(sql, sql.endsWith("returning \"something\".\"someid\""));
+                    //the generated key is not inserted
+                    Assert.assertFalse(sql, sql.contains("\"someid\", "));
+                    return mapper.apply(new JsonObject().put(Tables.SOMETHING.SOMEID.getName(), 5));
+                });
+        Assert.assertEquals(Integer.valueOf(5), key);
+    }
+
+    @Test
+    public void insertReturningCompositePrimaryOnPostgresShouldReturnRecord() {
+        SomethingcompositeDao dao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        Record2<Integer, Integer> key = VertxDAOHelper.insertReturningPrimaryAsync(new Somethingcomposite().setSomeid(1).setSomesecondid(2), dao,
+                (query, keyConverter) -> {
+                    throw new AssertionError("last id used");
+                },
+                (query, mapper) -> mapper.apply(new JsonObject()
+                        .put(Tables.SOMETHINGCOMPOSITE.SOMEID.getName(), 1)
+                        .put(Tables.SOMETHINGCOMPOSITE.SOMESECONDID.getName(), 2)));
+        Assert.assertEquals(Integer.valueOf(1), key.value1());
+        Assert.assertEquals(Integer.valueOf(2), key.value2());
+    }
+
+    @Test
+    public void insertReturningOnPostgresShouldReturnAllFields() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        Query query = VertxDAOHelper.insertReturningAsync(new Something().setSomestring("test"), dao, q -> q);
+        Assert.assertTrue(query.getSQL().toLowerCase().contains("returning \"something\".\"someid\", "));
+    }
+
+    @Test
+    public void insertReturningWithRecordCopierShouldMatchReflectiveMapping() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        Something something = VertxDaoTestBase.createSomething();
+        Query reflective = VertxDAOHelper.insertReturningAsync(something, dao, q -> q);
+        Query copied = VertxDAOHelper.insertReturningAsync(something, dao, dao.recordCopier(), q -> q);
+        Assert.assertEquals(reflective.getSQL(), copied.getSQL());
+        Assert.assertEquals(reflective.getBindValues(), copied.getBindValues());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void insertReturningCompositePrimaryOnMySQLShouldFail() {
+        SomethingcompositeDao dao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        VertxDAOHelper.insertReturningPrimaryAsync(new Somethingcomposite().setSomeid(1).setSomesecondid(2), dao,
+                (query, keyConverter) -> null,
+                (query, mapper) -> null);
+    }
+
+    @Test
+    public void insertReturningPrimaryForCollectionOnPostgresShouldGenerateMissingKeys() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        List<Query> queries = VertxDAOHelper.insertReturningPrimaryAsync(
+                Arrays.asList(new Something().setSomestring("generated"), new Something().setSomeid(10).setSomestring("explicit")), dao,
+                (q, keyConverter) -> {
+                    throw new AssertionError("last id used");
+                },
+                (q, mapper) -> q);
+        Assert.assertEquals(1, queries.size());
+        String sql = queries.get(0).getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.contains("values (default, ?"));
+        Assert.assertTrue(sql, sql.endsWith("returning \"something\".\"someid\""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void insertReturningPrimaryForCollectionOnMySQLShouldRequireGeneratedKeys() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        VertxDAOHelper.insertReturningPrimaryAsync(Collections.singletonList(new Something().setSomeid(10)), dao,
+                (q, keyConverter) -> null,
+                (q, mapper) -> null);
+    }
+}
@@ -1,10 +1,16 @@
 package io.github.jklingsporn.vertx.jooq.async.generate.classic;
 
+import generated.classic.async.vertx.tables.daos.SomethingDao;
 import generated.classic.async.vertx.tables.pojos.Something;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Created by jensklingsporn on 22.08.17.
  */
@@ -36,4 +42,29 @@ public class JsonConversionTest {
         Something somethingElse = new Something(json);
         Assert.assertEquals(something,somethingElse);
     }
+
+    @Test
+    public void mapRowByColumnIndexShouldReturnEqualPOJO(){
+        Something something = VertxDaoTestBase.createSomethingWithId();
+        //the client returns JSON columns as strings
+        JsonObject row = something.toJson()
+                .put("someJsonObject", something.getSomejsonobject().encode())
+                .put("someJsonArray", something.getSomejsonarray().encode());
+        List<String> columnNames = new ArrayList<>(row.fieldNames());
+        Collections.reverse(columnNames);
+        List<Object> values = new ArrayList<>();
+        columnNames.forEach(c -> values.add(row.getValue(c)));
+        JsonArray results = new JsonArray(values);
+        SomethingDao dao = new SomethingDao();
+        Assert.assertEquals(dao.jsonMapper().apply(row), dao.jsonMapper().forColumns(columnNames).apply(results));
+        Assert.assertEquals(something, dao.jsonMapper().forColumns(columnNames).apply(results));
+    }
+
+    @Test
+    public void mapRowWithMissingColumnsShouldSucceed(){
+        SomethingDao dao = new SomethingDao();
+        Something something = dao.jsonMapper().forColumns(Collections.singletonList("someId")).apply(new JsonArray().add(1));
+        Assert.assertEquals(Integer.valueOf(1), something.getSomeid());
+        Assert.assertNull(something.getSomestring());
+    }
 }
@@ -0,0 +1,44 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import generated.classic.async.vertx.tables.pojos.Something;
+import generated.classic.async.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PojoWriterTest {
+
+    @Test
+    public void pojoWriterShouldWriteValuesInFieldOrder() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        Something something = VertxDaoTestBase.createSomethingWithId();
+        Object[] values = new Object[Tables.SOMETHING.fields().length];
+        dao.pojoWriter().write(something, values);
+        Assert.assertArrayEquals(DSL.using(dao.configuration()).newRecord(Tables.SOMETHING, something).intoArray(), values);
+    }
+
+    @Test
+    public void insertShouldBindValuesOfWriter() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        Something something = VertxDaoTestBase.createSomething();
+        Query query = VertxDAOHelper.insertExecAsync(something, dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(something.getSomestring(), query.getBindValues().get(1));
+        Assert.assertEquals(Tables.SOMETHING.fields().length, query.getBindValues().size());
+    }
+
+    @Test
+    public void recordCopierShouldMatchReflectiveMapping() {
+        SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        Something something = VertxDaoTestBase.createSomething();
+        SomethingRecord expected = DSL.using(dao.configuration()).newRecord(Tables.SOMETHING, something);
+        SomethingRecord copied = DSL.using(dao.configuration()).newRecord(Tables.SOMETHING);
+        dao.recordCopier().copy(something, copied);
+        Assert.assertEquals(expected, copied);
+    }
+}
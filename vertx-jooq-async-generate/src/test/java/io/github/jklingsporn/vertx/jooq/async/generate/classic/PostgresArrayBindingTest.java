@@ -0,0 +1,88 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import generated.classic.async.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.async.vertx.tables.pojos.Something;
+import generated.classic.async.vertx.tables.pojos.Somethingcomposite;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PostgresArrayBindingTest {
+
+    private final SomethingDao dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+
+    @Test
+    public void fetchInShouldBindASingleArray() {
+        List<Query> queries = VertxDAOHelper.fetchInAsync(Tables.SOMETHING.SOMEID, Arrays.asList(1, 2, 3), dao, (q, parallelism) -> q);
+        Assert.assertEquals(1, queries.size());
+        Query query = queries.get(0);
+        Assert.assertTrue(query.getSQL(), query.getSQL().endsWith("where \"something\".\"someId\" = any (?::int[])"));
+        Assert.assertEquals(1, query.getBindValues().size());
+        Assert.assertArrayEquals(new Integer[]{1, 2, 3}, (Object[]) query.getBindValues().get(0));
+    }
+
+    @Test
+    public void insertShouldBindOneArrayPerColumn() {
+        Query two = insert(2);
+        Query three = insert(3);
+        Assert.assertTrue(three.getSQL(), three.getSQL().endsWith("select * from unnest(?::int[], ?::varchar[], ?::bigint[], ?::smallint[], ?::int[], "
+                + "?::double precision[], ?::varchar[], ?::varchar[], ?::varchar[])"));
+        Assert.assertEquals(two.getSQL(), three.getSQL());
+        Assert.assertEquals(Tables.SOMETHING.fields().length, three.getBindValues().size());
+        //converted columns are bound with their database type
+        Object[] jsonObjects = (Object[]) three.getBindValues().get(Tables.SOMETHING.fieldsRow().indexOf(Tables.SOMETHING.SOMEJSONOBJECT));
+        Assert.assertEquals(3, jsonObjects.length);
+        Assert.assertEquals("{\"key\":\"value\"}", jsonObjects[0]);
+    }
+
+    @Test
+    public void upsertShouldBindOneArrayPerColumn() {
+        SomethingcompositeDao compositeDao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        List<Query> queries = VertxDAOHelper.upsertExecAsync(
+                Arrays.asList(new Somethingcomposite().setSomeid(1).setSomesecondid(1), new Somethingcomposite().setSomeid(1).setSomesecondid(2)),
+                compositeDao, compositeDao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        String sql = queries.get(0).getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.contains("select * from unnest(?::int[], ?::int[], ?::varchar[])"));
+        Assert.assertEquals(3, queries.get(0).getBindValues().size());
+    }
+
+    @Test
+    public void insertWithoutIdsShouldLeaveOutThePrimaryKey() {
+        List<Query> queries = VertxDAOHelper.insertExecAsync(Arrays.asList(VertxDaoTestBase.createSomething(), VertxDaoTestBase.createSomething()),
+                dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        Query query = queries.get(0);
+        Assert.assertFalse(query.getSQL(), query.getSQL().contains("\"someId\""));
+        Assert.assertTrue(query.getSQL(), query.getSQL().endsWith("select * from unnest(?::varchar[], ?::bigint[], ?::smallint[], ?::int[], "
+                + "?::double precision[], ?::varchar[], ?::varchar[], ?::varchar[])"));
+        Assert.assertEquals(Tables.SOMETHING.fields().length - 1, query.getBindValues().size());
+    }
+
+    @Test
+    public void insertWithSomeIdsShouldGenerateTheMissingKeys() {
+        List<Query> queries = VertxDAOHelper.insertExecAsync(Arrays.asList(VertxDaoTestBase.createSomething(), VertxDaoTestBase.createSomethingWithId()),
+                dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        String sql = queries.get(0).getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.contains("values (default, ?"));
+        Assert.assertFalse(sql, sql.contains("unnest"));
+    }
+
+    private Query insert(int rows){
+        List<Something> somethings = IntStream.range(0, rows).mapToObj(i -> VertxDaoTestBase.createSomethingWithId()).collect(Collectors.toList());
+        List<Query> queries = VertxDAOHelper.insertExecAsync(somethings, dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        return queries.get(0);
+    }
+}
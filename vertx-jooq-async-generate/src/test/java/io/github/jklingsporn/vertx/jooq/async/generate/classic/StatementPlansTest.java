@@ -0,0 +1,61 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
+import generated.classic.async.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.async.vertx.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.jooq.impl.DSL.row;
+
+public class StatementPlansTest {
+
+    @Test
+    public void statementPlansShouldMatchRenderedSQL() {
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        SomethingDao dao = new SomethingDao(configuration);
+        DSLContext dslContext = DSL.using(configuration);
+        Assert.assertTrue(dao.statementPlans().isApplicable(configuration));
+
+        Query findById = VertxDAOHelper.fetchOneByIdAsync(1, dao, dao.statementPlans(), q -> q);
+        Assert.assertEquals(dslContext.selectFrom(Tables.SOMETHING).where(Tables.SOMETHING.SOMEID.eq(1)).getSQL(), findById.getSQL());
+        Assert.assertEquals(Collections.singletonList(1), findById.getBindValues());
+
+        Query deleteById = VertxDAOHelper.deleteByIdAsync(1, dao, dao.statementPlans(), q -> q);
+        Assert.assertEquals(dslContext.deleteFrom(Tables.SOMETHING).where(Tables.SOMETHING.SOMEID.eq(1)).getSQL(), deleteById.getSQL());
+
+        Query count = VertxDAOHelper.countAsync(dao, dao.statementPlans(), (q, mapper) -> q);
+        Assert.assertEquals(dslContext.selectCount().from(Tables.SOMETHING).getSQL(), count.getSQL());
+    }
+
+    @Test
+    public void compositeStatementPlansShouldMatchRenderedSQL() {
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        SomethingcompositeDao dao = new SomethingcompositeDao(configuration);
+        SomethingcompositeRecord id = new SomethingcompositeRecord().setSomeid(1).setSomesecondid(2);
+        Query findById = VertxDAOHelper.fetchOneByIdAsync(id.key(), dao, dao.statementPlans(), q -> q);
+        Assert.assertEquals(DSL.using(configuration).selectFrom(Tables.SOMETHINGCOMPOSITE)
+                .where(row(Tables.SOMETHINGCOMPOSITE.SOMEID, Tables.SOMETHINGCOMPOSITE.SOMESECONDID).eq(1, 2)).getSQL(), findById.getSQL());
+        Assert.assertEquals(2, findById.getParams().size());
+    }
+
+    @Test
+    public void statementPlansShouldNotApplyToOtherConfigurations() {
+        SomethingDao dao = new SomethingDao();
+        Assert.assertFalse(dao.statementPlans().isApplicable(new DefaultConfiguration().set(SQLDialect.POSTGRES)));
+        Assert.assertFalse(dao.statementPlans().isApplicable(new DefaultConfiguration().set(SQLDialect.MYSQL)
+                .set(new Settings().withRenderNameStyle(RenderNameStyle.AS_IS))));
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.jklingsporn.vertx.jooq.async.generate.classic;
+
+import generated.classic.async.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.async.vertx.tables.pojos.Somethingcomposite;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class UpsertTest {
+
+    @Test
+    public void upsertOnPostgresShouldUpdateOnConflictOfPrimaryKey() {
+        SomethingcompositeDao dao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        List<Query> queries = VertxDAOHelper.upsertExecAsync(
+                Arrays.asList(new Somethingcomposite().setSomeid(1).setSomesecondid(1), new Somethingcomposite().setSomeid(1).setSomesecondid(2)),
+                dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        String sql = queries.get(0).getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.contains("on conflict (\"someid\", \"somesecondid\") do update set \"somejsonobject\" = \"excluded\".\"somejsonobject\""));
+    }
+
+    @Test
+    public void upsertOnMySQLShouldUpdateOnDuplicateKey() {
+        SomethingcompositeDao dao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.MYSQL));
+        Query query = VertxDAOHelper.upsertExecAsync(new Somethingcomposite().setSomeid(1).setSomesecondid(1), dao, dao.pojoWriter(), q -> q);
+        String sql = query.getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.endsWith("on duplicate key update `somethingcomposite`.`somejsonobject` = values(`somejsonobject`)"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void upsertShouldFailForUnsupportedDialect() {
+        SomethingcompositeDao dao = new SomethingcompositeDao(new DefaultConfiguration().set(SQLDialect.H2));
+        VertxDAOHelper.upsertExecAsync(new Somethingcomposite().setSomeid(1).setSomesecondid(1), dao, dao.pojoWriter(), q -> q);
+    }
+}
@@ -30,6 +30,7 @@ public class VertxDaoTestBase {
 
     protected static SomethingDao dao;
     protected static SomethingcompositeDao compositeDao;
+    protected static Vertx vertx;
 
     @BeforeClass
     public static void beforeClass() throws SQLException {
@@ -40,7 +41,7 @@ public class VertxDaoTestBase {
 
         JsonObject config = new JsonObject().put("host", "127.0.0.1").put("username", "vertx").putNull("password").put("database","vertx");
         dao = new SomethingDao(configuration);
-        Vertx vertx = Vertx.vertx();
+        vertx = Vertx.vertx();
         dao.setClient(AsyncJooqSQLClient.create(vertx, MySQLClient.createNonShared(vertx, config)));
 
         compositeDao = new SomethingcompositeDao(configuration);
@@ -14,6 +14,16 @@ import java.sql.SQLException;
  */
 public class VertxGeneratorTest {
 
+    /**
+     * The classic POJOs are generated with change tracking.
+     */
+    public static class ChangeTrackingVertxGenerator extends ClassicAsyncVertxGenerator {
+
+        public ChangeTrackingVertxGenerator() {
+            setGenerateChangeTracking(true);
+        }
+    }
+
     @BeforeClass
     public static void createTestSchema() throws SQLException {
         TestTool.setupDB();;
@@ -22,7 +32,7 @@ public class VertxGeneratorTest {
     @Test
     public void generateCodeShouldSucceed() throws Exception {
         Configuration configuration = TestTool.createGeneratorConfig(
-                ClassicAsyncVertxGenerator.class.getName(),"classic.async.vertx", ClassicAsyncGeneratorStrategy.class);
+                ChangeTrackingVertxGenerator.class.getName(),"classic.async.vertx", ClassicAsyncGeneratorStrategy.class);
         try {
             GenerationTool.generate(configuration);
             Assert.assertTrue(true);
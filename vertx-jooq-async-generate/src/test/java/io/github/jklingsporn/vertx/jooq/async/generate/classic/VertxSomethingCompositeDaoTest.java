@@ -1,11 +1,19 @@
 package io.github.jklingsporn.vertx.jooq.async.generate.classic;
 
+import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingcompositeDao;
 import generated.classic.async.vertx.tables.pojos.Somethingcomposite;
 import generated.classic.async.vertx.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.async.shared.DAOSettings;
 import io.vertx.core.json.JsonObject;
+import org.jooq.Configuration;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -46,6 +54,68 @@ public class VertxSomethingCompositeDaoTest extends VertxDaoTestBase {
     }
 
 
+    @Test
+    public void upsertShouldInsertOrUpdateByCompositeKey() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        compositeDao.upsertExecAsync(Arrays.asList(createSomething(2, 1), createSomething(2, 2)), consumeOrFailHandler(inserted -> {
+            Assert.assertEquals(2, inserted.intValue());
+            Somethingcomposite updated = createSomething(2, 1);
+            updated.setSomejsonobject(new JsonObject().put("key", "upserted"));
+            compositeDao.upsertExecAsync(updated, consumeOrFailHandler(upserted -> {
+                //MySQL counts an updated row twice
+                Assert.assertEquals(2, upserted.intValue());
+                SomethingcompositeRecord key = new SomethingcompositeRecord();
+                key.from(updated);
+                compositeDao.findByIdAsync(key.key(), consumeOrFailHandler(fetched -> {
+                    Assert.assertEquals("upserted", fetched.getSomejsonobject().getString("key"));
+                    compositeDao.deleteExecAsync(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(2), countdownLatchHandler(latch));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldRollbackAllChunksWhenOneFails() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInsertRows(1).applyTo(configuration);
+        SomethingcompositeDao chunkingDao = new SomethingcompositeDao(configuration);
+        chunkingDao.setClient(compositeDao.client());
+        Somethingcomposite tooLong = createSomething(4, 2);
+        //too long for the column, so the second chunk fails
+        tooLong.setSomejsonobject(new JsonObject().put("key", String.join("", Collections.nCopies(46, "x"))));
+        chunkingDao.upsertExecAsync(Arrays.asList(createSomething(4, 1), tooLong), h -> {
+            Assert.assertTrue(h.failed());
+            compositeDao.fetchAsync(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(4), consumeOrFailHandler(fetched -> {
+                Assert.assertTrue(fetched.isEmpty());
+                latch.countDown();
+            }));
+        });
+        await(latch);
+    }
+
+    @Test
+    public void findByIdsShouldReturnRecordsKeyedByCompositeKey() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        compositeDao.insertExecAsync(Arrays.asList(createSomething(3, 1), createSomething(3, 2)), consumeOrFailHandler(inserted -> {
+            SomethingcompositeRecord first = new SomethingcompositeRecord();
+            first.from(createSomething(3, 1));
+            SomethingcompositeRecord second = new SomethingcompositeRecord();
+            second.from(createSomething(3, 2));
+            SomethingcompositeRecord missing = new SomethingcompositeRecord();
+            missing.from(createSomething(3, 3));
+            compositeDao.findByIdsAsync(Arrays.asList(first.key(), second.key(), missing.key()), consumeOrFailHandler(byId -> {
+                Assert.assertEquals(2, byId.size());
+                Assert.assertEquals(Integer.valueOf(1), byId.get(first.key()).getSomesecondid());
+                Assert.assertEquals(Integer.valueOf(2), byId.get(second.key()).getSomesecondid());
+                Assert.assertFalse(byId.containsKey(missing.key()));
+                compositeDao.deleteExecAsync(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(3), countdownLatchHandler(latch));
+            }));
+        }));
+        await(latch);
+    }
+
     private Somethingcomposite createSomething(int someId, int someSecondId){
         Somethingcomposite something = new Somethingcomposite();
         something.setSomeid(someId);
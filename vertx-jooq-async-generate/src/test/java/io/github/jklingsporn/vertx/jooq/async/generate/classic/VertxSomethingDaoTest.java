@@ -2,14 +2,35 @@ package io.github.jklingsporn.vertx.jooq.async.generate.classic;
 
 import com.github.mauricio.async.db.mysql.exceptions.MySQLException;
 import generated.classic.async.vertx.Tables;
+import generated.classic.async.vertx.tables.daos.SomethingDao;
 import generated.classic.async.vertx.tables.pojos.Something;
+import generated.classic.async.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.async.classic.FindByIdLoader;
+import io.github.jklingsporn.vertx.jooq.async.shared.DAOSettings;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.BatchLoader;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
 import org.jooq.exception.TooManyRowsException;
+import org.jooq.impl.DefaultConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -137,5 +158,385 @@ public class VertxSomethingDaoTest extends VertxDaoTestBase {
         await(latch);
     }
 
+    @Test
+    public void fetchStreamShouldEmitAllMatches() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<Integer> insertFuture1 = Future.future();
+        Future<Integer> insertFuture2 = Future.future();
+
+        Something someNewObject = createSomething();
+        dao.insertReturningPrimaryAsync(someNewObject,insertFuture1);
+        dao.insertReturningPrimaryAsync(createSomething().setSomehugenumber(someNewObject.getSomehugenumber()),insertFuture2);
+        CompositeFuture.all(insertFuture1, insertFuture2).
+                setHandler(consumeOrFailHandler(v -> {
+                    dao.fetchStreamAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(someNewObject.getSomehugenumber()), consumeOrFailHandler(stream -> {
+                        List<Something> fetched = new ArrayList<>();
+                        stream.exceptionHandler(x -> Assert.fail(x.getMessage()));
+                        stream.endHandler(end -> {
+                            Assert.assertEquals(2, fetched.size());
+                            dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(someNewObject.getSomehugenumber()), countdownLatchHandler(latch));
+                        });
+                        stream.handler(fetched::add);
+                    }));
+                }));
+        await(latch);
+    }
+
+    @Test
+    public void findByIdShouldReuseRenderedSQL() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        SQLRenderCache renderCache = SQLRenderCache.getInstance();
+        //the statement plans are generated for MySQL, so findById is rendered by jOOQ
+        SomethingDao mariaDbDao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MARIADB));
+        mariaDbDao.setClient(dao.client());
+        mariaDbDao.findByIdAsync(-1, consumeOrFailHandler(first -> {
+            Assert.assertNull(first);
+            long hits = renderCache.hits();
+            mariaDbDao.findByIdAsync(-2, consumeOrFailHandler(second -> {
+                Assert.assertNull(second);
+                Assert.assertEquals(hits + 1, renderCache.hits());
+                latch.countDown();
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void updateShouldReuseRenderedSQL() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        SQLRenderCache renderCache = SQLRenderCache.getInstance();
+        dao.updateExecAsync(createSomethingWithId().setSomeid(-1), consumeOrFailHandler(first -> {
+            Assert.assertEquals(0L, first.longValue());
+            long hits = renderCache.hits();
+            dao.updateExecAsync(createSomethingWithId().setSomeid(-2), consumeOrFailHandler(second -> {
+                Assert.assertEquals(0L, second.longValue());
+                Assert.assertEquals(hits + 1, renderCache.hits());
+                latch.countDown();
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void withTransactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something someNewObject = createSomething();
+        dao.client().<Something>withTransaction(client -> {
+            SomethingDao transactionalDao = new SomethingDao(dao.configuration());
+            transactionalDao.setClient(client);
+            Future<Integer> insertFuture = Future.future();
+            transactionalDao.insertReturningPrimaryAsync(someNewObject, insertFuture);
+            return insertFuture.compose(id -> {
+                Future<Something> fetchFuture = Future.future();
+                transactionalDao.findByIdAsync(id, fetchFuture);
+                return fetchFuture;
+            }).compose(fetched -> Future.failedFuture(new IllegalStateException(fetched == null ? "not inserted" : "rollback")));
+        }, h -> {
+            Assert.assertTrue(h.failed());
+            Assert.assertEquals("rollback", h.cause().getMessage());
+            dao.fetchOneAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(someNewObject.getSomehugenumber()), consumeOrFailHandler(fetched -> {
+                Assert.assertNull(fetched);
+                latch.countDown();
+            }));
+        });
+        await(latch);
+    }
+
+    @Test
+    public void insertReturningPrimaryForCollectionShouldReturnKeysInOrder() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Something> somethings = Arrays.asList(
+                createSomething().setSomehugenumber(hugeNumber).setSomestring("first"),
+                createSomething().setSomehugenumber(hugeNumber).setSomestring("second"),
+                createSomething().setSomehugenumber(hugeNumber).setSomestring("third"));
+        dao.insertReturningPrimaryAsync(somethings, consumeOrFailHandler(keys -> {
+            Assert.assertEquals(3, keys.size());
+            dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), consumeOrFailHandler(fetched -> {
+                Map<Integer, String> byKey = fetched.stream().collect(Collectors.toMap(Something::getSomeid, Something::getSomestring));
+                Assert.assertEquals("first", byKey.get(keys.get(0)));
+                Assert.assertEquals("second", byKey.get(keys.get(1)));
+                Assert.assertEquals("third", byKey.get(keys.get(2)));
+                dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), countdownLatchHandler(latch));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void insertReturningPrimaryForCollectionShouldRollbackAllChunksWhenOneFails() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInsertRows(2).applyTo(configuration);
+        SomethingDao chunkingDao = new SomethingDao(configuration);
+        chunkingDao.setClient(dao.client());
+        List<Something> somethings = Arrays.asList(
+                createSomething().setSomehugenumber(hugeNumber),
+                createSomething().setSomehugenumber(hugeNumber),
+                //too long for the column, so the second chunk fails
+                createSomething().setSomehugenumber(hugeNumber).setSomestring(String.join("", Collections.nCopies(46, "x"))));
+        chunkingDao.insertReturningPrimaryAsync(somethings, h -> {
+            Assert.assertTrue(h.failed());
+            dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), consumeOrFailHandler(fetched -> {
+                Assert.assertTrue(fetched.isEmpty());
+                latch.countDown();
+            }));
+        });
+        await(latch);
+    }
+
+    @Test
+    public void updateOfFetchedPojoShouldOnlySetChangedColumns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaryAsync(createSomething(), consumeOrFailHandler(id -> {
+            dao.fetchOneAsync(Tables.SOMETHING.SOMEID.eq(id), consumeOrFailHandler(first -> {
+                dao.fetchOneAsync(Tables.SOMETHING.SOMEID.eq(id), consumeOrFailHandler(second -> {
+                    Assert.assertTrue(first.changedColumns().isEmpty());
+                    //both updates are based on the same state but change different columns
+                    dao.updateExecAsync(first.setSomestring("modified"), consumeOrFailHandler(firstUpdate -> {
+                        dao.updateExecAsync(second.setSomeregularnumber(42), consumeOrFailHandler(secondUpdate -> {
+                            dao.findByIdAsync(id, consumeOrFailHandler(updated -> {
+                                Assert.assertEquals("modified", updated.getSomestring());
+                                Assert.assertEquals(42, updated.getSomeregularnumber().intValue());
+                                dao.deleteExecAsync(id, countdownLatchHandler(latch));
+                            }));
+                        }));
+                    }));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void consecutiveUpdatesShouldOnlySetColumnsChangedSinceTheLastUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaryAsync(createSomething(), consumeOrFailHandler(id -> {
+            dao.fetchOneAsync(Tables.SOMETHING.SOMEID.eq(id), consumeOrFailHandler(first -> {
+                dao.updateExecAsync(first.setSomestring("first"), consumeOrFailHandler(firstUpdate -> {
+                    Assert.assertTrue(first.changedColumns().isEmpty());
+                    dao.fetchOneAsync(Tables.SOMETHING.SOMEID.eq(id), consumeOrFailHandler(second -> {
+                        dao.updateExecAsync(second.setSomestring("second"), consumeOrFailHandler(secondUpdate -> {
+                            //the column set by the first update must not be set again
+                            dao.updateExecAsync(first.setSomeregularnumber(42), consumeOrFailHandler(thirdUpdate -> {
+                                dao.findByIdAsync(id, consumeOrFailHandler(updated -> {
+                                    Assert.assertEquals("second", updated.getSomestring());
+                                    Assert.assertEquals(42, updated.getSomeregularnumber().intValue());
+                                    dao.deleteExecAsync(id, countdownLatchHandler(latch));
+                                }));
+                            }));
+                        }));
+                    }));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void updateOfConstructedPojoShouldSetAllColumns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaryAsync(createSomething(), consumeOrFailHandler(id -> {
+            Something constructed = new Something(id, "constructed", 1L, (short) 2, 3, 4.0, null, new JsonObject(), new JsonArray());
+            dao.updateExecAsync(constructed.setSomeregularnumber(42), consumeOrFailHandler(updated -> {
+                dao.findByIdAsync(id, consumeOrFailHandler(fetched -> {
+                    Assert.assertEquals("constructed", fetched.getSomestring());
+                    Assert.assertEquals(1L, fetched.getSomehugenumber().longValue());
+                    Assert.assertEquals(2, fetched.getSomesmallnumber().intValue());
+                    Assert.assertEquals(42, fetched.getSomeregularnumber().intValue());
+                    dao.deleteExecAsync(id, countdownLatchHandler(latch));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void findByIdLoaderShouldBatchLookupsOfOneTick() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Something> somethings = Arrays.asList(
+                createSomething().setSomehugenumber(hugeNumber),
+                createSomething().setSomehugenumber(hugeNumber));
+        dao.insertReturningPrimaryAsync(somethings, consumeOrFailHandler(keys -> {
+            FindByIdLoader<SomethingRecord, Something, Integer> loader = new FindByIdLoader<>(vertx, dao);
+            Future<Something> first = Future.future();
+            Future<Something> second = Future.future();
+            Future<Something> firstAgain = Future.future();
+            Future<Something> missing = Future.future();
+            loader.findByIdAsync(keys.get(0), first);
+            loader.findByIdAsync(keys.get(1), second);
+            loader.findByIdAsync(keys.get(0), firstAgain);
+            loader.findByIdAsync(-1, missing);
+            CompositeFuture.all(first, second, firstAgain, missing).setHandler(consumeOrFailHandler(v -> {
+                Assert.assertEquals(keys.get(0), first.result().getSomeid());
+                Assert.assertEquals(keys.get(1), second.result().getSomeid());
+                Assert.assertSame(first.result(), firstAgain.result());
+                Assert.assertNull(missing.result());
+                Assert.assertEquals(1L, loader.batches());
+                Assert.assertEquals(4.0, loader.batchingRatio(), 0.0);
+                dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), countdownLatchHandler(latch));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void batchLoaderShouldKeepTheWindowAfterAFullBatch() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        List<List<Integer>> loaded = Collections.synchronizedList(new ArrayList<>());
+        BatchLoader<Integer, Integer> loader = new BatchLoader<>(vertx, 2, 200, (keys, handler) -> {
+            loaded.add(keys);
+            handler.handle(Future.succeededFuture(keys.stream().collect(Collectors.toMap(k -> k, k -> k))));
+        });
+        loader.load(1, consumeOrFailHandler(v -> {}));
+        loader.load(2, consumeOrFailHandler(v -> {}));
+        //the full batch has been loaded, its timer must not load the next batch early
+        vertx.setTimer(100, t -> loader.load(3, countdownLatchHandler(latch)));
+        List<List<Integer>> loadedAfterFirstWindow = new ArrayList<>();
+        vertx.setTimer(250, t -> {
+            loadedAfterFirstWindow.addAll(loaded);
+            latch.countDown();
+        });
+        await(latch);
+        Assert.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), loadedAfterFirstWindow);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)), loaded);
+        Assert.assertEquals(1.5, loader.batchingRatio(), 0.0);
+    }
+
+    @Test
+    public void existsShouldProbeWithoutFetchingTheRecords() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        String sql = VertxDAOHelper.existsAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), dao, Query::getSQL);
+        Assert.assertTrue(sql, sql.startsWith("select 1 ") && sql.endsWith("limit ?"));
+        dao.insertExecAsync(Arrays.asList(createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber)), consumeOrFailHandler(inserted -> {
+            dao.existsAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), consumeOrFailHandler(exists -> {
+                Assert.assertTrue(exists);
+                dao.existsAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber).and(Tables.SOMETHING.SOMEID.eq(-1)), consumeOrFailHandler(missing -> {
+                    Assert.assertFalse(missing);
+                    dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), countdownLatchHandler(latch));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void fetchPageShouldSeekAfterTheLastKeyOfThePreviousPage() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        dao.insertExecAsync(Arrays.asList(createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber)), consumeOrFailHandler(inserted -> {
+            dao.fetchPageAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), null, 2, consumeOrFailHandler(first -> {
+                Assert.assertEquals(2, first.size());
+                Assert.assertTrue(first.get(0).getSomeid() < first.get(1).getSomeid());
+                dao.fetchPageAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), first.get(1).getSomeid(), 2, consumeOrFailHandler(second -> {
+                    Assert.assertEquals(1, second.size());
+                    Assert.assertTrue(first.get(1).getSomeid() < second.get(0).getSomeid());
+                    dao.seekBySomeidAsync(second.get(0).getSomeid(), 2, consumeOrFailHandler(last -> {
+                        Assert.assertTrue(last.stream().allMatch(s -> s.getSomeid() > second.get(0).getSomeid()));
+                        dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), countdownLatchHandler(latch));
+                    }));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void scanShouldFetchTheNextChunkWhenThePreviousHasBeenConsumed() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Integer> scanned = new ArrayList<>();
+        dao.insertReturningPrimaryAsync(Arrays.asList(createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber)), consumeOrFailHandler(keys -> {
+            dao.scanAsync(2, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), (chunk, consumed) -> {
+                Assert.assertTrue(chunk.size() <= 2);
+                chunk.forEach(s -> scanned.add(s.getSomeid()));
+                vertx.setTimer(10, t -> consumed.handle(Future.succeededFuture()));
+            }, consumeOrFailHandler(v -> {
+                Assert.assertEquals(keys, scanned);
+                dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), countdownLatchHandler(latch));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void fetchPageWithTotalShouldCountAllMatches() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Condition condition = Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber);
+        //MariaDB supports window functions, so both strategies can be tested
+        SomethingDao windowDao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MYSQL_8_0));
+        windowDao.setClient(dao.client());
+        dao.insertExecAsync(Arrays.asList(createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber), createSomething().setSomehugenumber(hugeNumber)), consumeOrFailHandler(inserted -> {
+            dao.countAsync(condition, consumeOrFailHandler(count -> {
+                Assert.assertEquals(3L, count.longValue());
+                dao.fetchPageWithTotalAsync(condition, Arrays.asList(Tables.SOMETHING.SOMEID.asc()), 2, 0, consumeOrFailHandler(foundRows -> {
+                    Assert.assertEquals(2, foundRows.getRecords().size());
+                    Assert.assertEquals(3L, foundRows.getTotal());
+                    windowDao.fetchPageWithTotalAsync(condition, Arrays.asList(Tables.SOMETHING.SOMEID.asc()), 2, 2, consumeOrFailHandler(countedOver -> {
+                        Assert.assertEquals(1, countedOver.getRecords().size());
+                        Assert.assertEquals(3L, countedOver.getTotal());
+                        windowDao.fetchPageWithTotalAsync(condition, Arrays.asList(Tables.SOMETHING.SOMEID.asc()), 2, 4, consumeOrFailHandler(beyond -> {
+                            Assert.assertTrue(beyond.getRecords().isEmpty());
+                            Assert.assertEquals(3L, beyond.getTotal());
+                            dao.deleteExecAsync(condition, countdownLatchHandler(latch));
+                        }));
+                    }));
+                }));
+            }));
+        }));
+        await(latch);
+    }
+
+    @Test
+    public void fetchPageWithTotalShouldFailForUnsupportedDialect() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        SomethingDao mariaDao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.MARIADB));
+        String sql = VertxDAOHelper.fetchPageWithTotalAsync(Tables.SOMETHING.SOMEID.isNotNull(), Arrays.asList(Tables.SOMETHING.SOMEID.asc()), 2, 0, mariaDao, (query, totalQuery) -> query.getSQL());
+        Assert.assertTrue(sql, sql.contains("SQL_CALC_FOUND_ROWS"));
+        SomethingDao h2Dao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.H2));
+        h2Dao.setClient(dao.client());
+        h2Dao.fetchPageWithTotalAsync(Tables.SOMETHING.SOMEID.isNotNull(), Arrays.asList(Tables.SOMETHING.SOMEID.asc()), 2, 0, h -> {
+            Assert.assertTrue(h.failed());
+            Assert.assertTrue(h.cause() instanceof UnsupportedOperationException);
+            latch.countDown();
+        });
+        await(latch);
+    }
+
+    @Test
+    public void countApproxShouldBeCachedAndFallBackToExactCountBelowThreshold() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        SomethingDao postgresDao = new SomethingDao(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+        String sql = VertxDAOHelper.countApproxAsync(postgresDao, (query, mapper) -> query.getSQL());
+        Assert.assertTrue(sql, sql.contains("pg_class"));
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withExactCountThreshold(Long.MAX_VALUE).applyTo(configuration);
+        SomethingDao exactDao = new SomethingDao(configuration);
+        exactDao.setClient(dao.client());
+        Configuration otherConfiguration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(otherConfiguration).withExactCountThreshold(Long.MAX_VALUE).applyTo(otherConfiguration);
+        SomethingDao otherDao = new SomethingDao(otherConfiguration);
+        otherDao.setClient(dao.client());
+        dao.countAsync(consumeOrFailHandler(count -> {
+            exactDao.countApproxAsync(consumeOrFailHandler(approx -> {
+                Assert.assertEquals(count, approx);
+                dao.insertReturningPrimaryAsync(createSomething(), consumeOrFailHandler(id -> {
+                    exactDao.countApproxAsync(consumeOrFailHandler(cached -> {
+                        Assert.assertEquals(count, cached);
+                        //the cache of another configuration is not affected
+                        otherDao.countApproxAsync(consumeOrFailHandler(other -> {
+                            Assert.assertEquals(count + 1, other.longValue());
+                            dao.deleteExecAsync(id, countdownLatchHandler(latch));
+                        }));
+                    }));
+                }));
+            }));
+        }));
+        await(latch);
+    }
 
 }
@@ -2,17 +2,32 @@ package io.github.jklingsporn.vertx.jooq.async.generate.future;
 
 import com.github.mauricio.async.db.mysql.exceptions.MySQLException;
 import generated.future.async.vertx.Tables;
+import generated.future.async.vertx.tables.daos.SomethingDao;
 import generated.future.async.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.async.shared.DAOSettings;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
 import org.jooq.exception.TooManyRowsException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Created by jensklingsporn on 13.06.17.
@@ -115,17 +130,11 @@ public class VertxSomethingDaoTest extends VertxDaoTestBase {
     public void existingValueShouldExist() throws InterruptedException {
         Something something = createSomething();
         CountDownLatch latch = new CountDownLatch(1);
-        CompletableFuture<Integer> primaryAsync = dao.insertReturningPrimaryAsync(something);
-        primaryAsync
-                .thenAccept(pk -> {
-                    something.setSomeid(pk);
-                    CompletableFuture<Boolean> existsByIdFuture = dao.existsByIdAsync(pk);
-                    existsByIdFuture
-                            .thenAccept(Assert::assertTrue)
-                            .whenComplete(failOrCountDown(latch));
-                })
-                .whenComplete((r, x) -> dao.deleteExecAsync(primaryAsync.join()))
-                .whenComplete(failOnException());
+        dao.insertReturningPrimaryAsync(something)
+                .thenCompose(pk -> dao.existsByIdAsync(pk)
+                        .thenCompose(exists -> dao.deleteExecAsync(pk).thenApply(deleted -> exists)))
+                .thenAccept(Assert::assertTrue)
+                .whenComplete(failOrCountDown(latch));
         await(latch);
     }
 
@@ -191,6 +200,246 @@ public class VertxSomethingDaoTest extends VertxDaoTestBase {
     }
 
 
+    @Test
+    public void fetchChunkedShouldConsumeAllChunks() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Integer> chunkSizes = new ArrayList<>();
+        AtomicBoolean consuming = new AtomicBoolean();
+        CompletableFuture<?>[] inserts = IntStream.range(0, 5)
+                .mapToObj(i -> dao.insertReturningPrimaryAsync(createSomething().setSomehugenumber(hugeNumber)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(inserts).
+                thenCompose(v -> dao.fetchChunkedAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), 2, chunk -> {
+                    Assert.assertFalse(consuming.getAndSet(true));
+                    chunkSizes.add(chunk.size());
+                    //complete on another thread
+                    return CompletableFuture.runAsync(() -> consuming.set(false));
+                })).
+                thenAccept(v -> Assert.assertEquals(Arrays.asList(2, 2, 1), chunkSizes)).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(5, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void scanShouldConsumeAllChunksInPrimaryKeyOrder() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Integer> scanned = new ArrayList<>();
+        List<Integer> chunkSizes = new ArrayList<>();
+        AtomicBoolean consuming = new AtomicBoolean();
+        List<Something> somethings = IntStream.range(0, 4)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        dao.insertReturningPrimaryAsync(somethings).
+                thenCompose(keys -> dao.scanAsync(2, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), chunk -> {
+                    Assert.assertFalse(consuming.getAndSet(true));
+                    chunkSizes.add(chunk.size());
+                    chunk.forEach(s -> scanned.add(s.getSomeid()));
+                    //complete on another thread
+                    return CompletableFuture.runAsync(() -> consuming.set(false));
+                }).thenAccept(v -> Assert.assertEquals(keys, scanned))).
+                thenAccept(v -> Assert.assertEquals(Arrays.asList(2, 2), chunkSizes)).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(4, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void scanPartitionedShouldConsumeAllPartitions() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Integer> scanned = Collections.synchronizedList(new ArrayList<>());
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        dao.insertReturningPrimaryAsync(somethings).
+                thenCompose(keys -> dao.partitionAsync(2, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber)).
+                        thenAccept(partitions -> Assert.assertEquals(2, partitions.size())).
+                        thenCompose(v -> dao.scanPartitionedAsync(2, 2, 2, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), chunk -> {
+                            chunk.forEach(s -> scanned.add(s.getSomeid()));
+                            return CompletableFuture.completedFuture(null);
+                        })).
+                        thenAccept(v -> Assert.assertEquals(keys, scanned.stream().sorted().collect(Collectors.toList())))).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenCompose(v -> dao.partitionAsync(2, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(partitions -> Assert.assertTrue(partitions.isEmpty())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void partitionShouldSplitTheFullKeyRange() {
+        List<Condition> partitions = VertxDAOHelper.partitionAsync(DSL.trueCondition(), 4, dao,
+                (query, split) -> split.apply(new JsonObject().put("min", Integer.MIN_VALUE).put("max", Integer.MAX_VALUE)));
+        Assert.assertEquals(4, partitions.size());
+        Assert.assertTrue(partitions.get(0).toString(), partitions.get(0).toString().contains("between -2147483648 and -1073741825"));
+        Assert.assertTrue(partitions.get(3).toString(), partitions.get(3).toString().contains("between 1073741824 and 2147483647"));
+    }
+
+    @Test
+    public void scanPartitionedInTransactionShouldScanPartitionsSequentially() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Integer> scanned = new ArrayList<>();
+        AtomicBoolean consuming = new AtomicBoolean();
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        dao.client().withTransaction(client -> {
+            SomethingDao transactionalDao = new SomethingDao(dao.configuration());
+            transactionalDao.setClient(client);
+            return transactionalDao.insertReturningPrimaryAsync(somethings).
+                    thenCompose(keys -> transactionalDao.scanPartitionedAsync(3, 3, 1, Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber), chunk -> {
+                        Assert.assertFalse(consuming.getAndSet(true));
+                        chunk.forEach(s -> scanned.add(s.getSomeid()));
+                        //complete on another thread
+                        return CompletableFuture.runAsync(() -> consuming.set(false));
+                    }).thenAccept(v -> Assert.assertEquals(keys, scanned)));
+        }).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(5, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void withTransactionShouldCommitOnSuccess() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        Something somethingCreated = createSomething();
+        dao.client().withTransaction(client -> {
+            SomethingDao transactionalDao = new SomethingDao(dao.configuration());
+            transactionalDao.setClient(client);
+            return transactionalDao.insertReturningPrimaryAsync(somethingCreated).
+                    thenCompose(id -> transactionalDao.updateExecAsync(somethingCreated.setSomeid(id).setSomestring("modified"))).
+                    thenApply(updated -> somethingCreated.getSomeid());
+        }).
+                thenCompose(dao::findByIdAsync).
+                thenAccept(fetched -> Assert.assertEquals("modified", fetched.getSomestring())).
+                thenCompose(v -> dao.deleteExecAsync(somethingCreated.getSomeid())).
+                thenAccept(deleted -> Assert.assertEquals(1L, deleted.longValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertCollectionShouldInsertAllRowsInChunks() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInsertRows(2).applyTo(configuration);
+        SomethingDao chunkingDao = new SomethingDao(configuration);
+        chunkingDao.setClient(dao.client());
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        chunkingDao.insertExecAsync(somethings).
+                thenAccept(inserted -> Assert.assertEquals(5, inserted.intValue())).
+                thenCompose(v -> dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(fetched -> Assert.assertEquals(5, fetched.size())).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(5, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertCollectionShouldRollbackAllChunksWhenOneFails() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInsertRows(2).applyTo(configuration);
+        SomethingDao chunkingDao = new SomethingDao(configuration);
+        chunkingDao.setClient(dao.client());
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        //too long for the column, so the last chunk fails
+        somethings.get(4).setSomestring(String.join("", Collections.nCopies(46, "x")));
+        chunkingDao.insertExecAsync(somethings)
+                .handle((inserted, x) -> {
+                    Assert.assertNotNull("insert should fail", x);
+                    return null;
+                })
+                .thenCompose(v -> dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber)))
+                .thenAccept(fetched -> Assert.assertEquals(0, fetched.size()))
+                .whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertCollectionWithoutIdsShouldGenerateKeys() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        List<Something> somethings = IntStream.range(0, 3)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        List<Query> queries = VertxDAOHelper.insertExecAsync(somethings, dao, dao.pojoWriter(), q -> q);
+        Assert.assertEquals(1, queries.size());
+        //the keys are generated instead of inserting null
+        String sql = queries.get(0).getSQL().toLowerCase();
+        Assert.assertTrue(sql, sql.contains("values (default, ?"));
+        dao.insertExecAsync(somethings).
+                thenAccept(inserted -> Assert.assertEquals(3, inserted.intValue())).
+                thenCompose(v -> dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(fetched -> Assert.assertEquals(3, fetched.stream().map(Something::getSomeid).distinct().count())).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(3, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void fetchByLargeCollectionShouldFetchDistinctValuesInChunks() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInListSize(2).withMaxInListParallelism(2).applyTo(configuration);
+        SomethingDao chunkingDao = new SomethingDao(configuration);
+        chunkingDao.setClient(dao.client());
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        dao.insertReturningPrimaryAsync(somethings).
+                thenCompose(keys -> {
+                    List<Integer> ids = new ArrayList<>(keys);
+                    ids.add(keys.get(0));
+                    ids.add(-1);
+                    return chunkingDao.fetchAsync(Tables.SOMETHING.SOMEID, ids).
+                            thenAccept(fetched -> Assert.assertEquals(keys, fetched.stream().map(Something::getSomeid).sorted().collect(Collectors.toList())));
+                }).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(5, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
+    @Test
+    public void fetchByLargeCollectionInTransactionShouldFetchChunksSequentially() throws InterruptedException{
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.MYSQL);
+        DAOSettings.of(configuration).withMaxInListSize(2).withMaxInListParallelism(4).applyTo(configuration);
+        List<Something> somethings = IntStream.range(0, 5)
+                .mapToObj(i -> createSomething().setSomehugenumber(hugeNumber))
+                .collect(Collectors.toList());
+        dao.client().withTransaction(client -> {
+            Assert.assertTrue(client.isConnectionBound());
+            SomethingDao transactionalDao = new SomethingDao(configuration);
+            transactionalDao.setClient(client);
+            return transactionalDao.insertReturningPrimaryAsync(somethings).
+                    thenCompose(keys -> transactionalDao.fetchAsync(Tables.SOMETHING.SOMEID, keys).
+                            thenAccept(fetched -> Assert.assertEquals(keys, fetched.stream().map(Something::getSomeid).sorted().collect(Collectors.toList()))));
+        }).
+                thenCompose(v -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber))).
+                thenAccept(deleted -> Assert.assertEquals(5, deleted.intValue())).
+                whenComplete(failOrCountDown(latch));
+        await(latch);
+    }
+
     private Something createSomething(){
         Random random = new Random();
         Something something = new Something();
@@ -2,6 +2,7 @@ package io.github.jklingsporn.vertx.jooq.async.generate.rx;
 
 import com.github.mauricio.async.db.mysql.exceptions.MySQLException;
 import generated.future.async.vertx.Tables;
+import generated.rx.async.vertx.tables.daos.SomethingDao;
 import generated.rx.async.vertx.tables.pojos.Something;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
@@ -12,6 +13,7 @@ import org.jooq.impl.DSL;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -97,7 +99,7 @@ public class VertxSomethingDaoTest extends RXVertxDaoTestBase {
             .onErrorReturn(x -> {
                 Assert.assertNotNull(x);
                 Assert.assertEquals(TooManyRowsException.class, x.getClass());
-                return null;
+                return new Something();
             })
             .flatMap(n -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(1L)))
             .subscribe(failOrCountDownSingleObserver(latch));
@@ -136,6 +138,46 @@ public class VertxSomethingDaoTest extends RXVertxDaoTestBase {
         Assert.assertThat(count.get(), Is.is(2));
     }
 
+    @Test
+    public void fetchFlowableShouldReleaseConnectionWhenCancelled() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long hugeNumber = new Random().nextLong();
+        Single<Integer> insert1 = dao.insertReturningPrimaryAsync(createSomething().setSomehugenumber(hugeNumber));
+        Single<Integer> insert2 = dao.insertReturningPrimaryAsync(createSomething().setSomehugenumber(hugeNumber));
+        Single<Integer> insert3 = dao.insertReturningPrimaryAsync(createSomething().setSomehugenumber(hugeNumber));
+
+        Single.zip(insert1, insert2, insert3, (i1, i2, i3) -> i1)
+            .flatMapPublisher(i -> dao.fetchFlowable(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber)))
+            .take(2)
+            .toList()
+            .doOnSuccess(values -> Assert.assertEquals(2, values.size()))
+            .flatMap(list -> dao.deleteExecAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(hugeNumber)))
+            .doOnSuccess(deleted -> Assert.assertEquals(3, deleted.intValue()))
+            .subscribe(failOrCountDownSingleObserver(latch));
+        await(latch);
+    }
+
+    @Test
+    public void withTransactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something somethingCreated = createSomething();
+        dao.client().<Integer>withTransaction(client -> {
+            SomethingDao transactionalDao = new SomethingDao(dao.configuration());
+            transactionalDao.setClient(client);
+            return transactionalDao.insertReturningPrimaryAsync(somethingCreated)
+                    .flatMap(transactionalDao::findByIdAsync)
+                    .flatMap(fetched -> Single.error(new IllegalStateException("rollback")));
+        })
+            .onErrorResumeNext(x -> {
+                Assert.assertEquals("rollback", x.getMessage());
+                return dao.fetchAsync(Tables.SOMETHING.SOMEHUGENUMBER.eq(somethingCreated.getSomehugenumber()))
+                        .map(List::size);
+            })
+            .doOnSuccess(size -> Assert.assertEquals(0, size.intValue()))
+            .subscribe(failOrCountDownSingleObserver(latch));
+        await(latch);
+    }
+
     private Something createSomething() {
         random = new Random();
         Something something = new Something();
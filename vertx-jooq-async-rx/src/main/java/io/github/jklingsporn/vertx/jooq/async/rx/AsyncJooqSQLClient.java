@@ -1,6 +1,7 @@
 package io.github.jklingsporn.vertx.jooq.async.rx;
 
 import io.github.jklingsporn.vertx.jooq.async.rx.util.AsyncJooqSQLClientImpl;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 import io.vertx.reactivex.core.Vertx;
@@ -35,6 +36,16 @@ public interface AsyncJooqSQLClient {
      */
     <P> Single<P> fetchOne(Query query, Function<JsonObject, P> mapper);
 
+    /**
+     * Streams the results of a query. Rows are read from the row stream of the connection according to the
+     * demand of the subscriber. The connection is released when the Flowable terminates or is cancelled.
+     * @param query a jOOQ-query
+     * @param mapper a function to map the result into another object.
+     * @param <P> the type to fetch
+     * @return A Flowable emitting the results of P.
+     */
+    <P> Flowable<P> fetchFlowable(Query query, Function<JsonObject, P> mapper);
+
     /**
      * @param query a jOOQ-query
      * @return A Single returning the number of affected rows by this query.
@@ -47,6 +58,43 @@ public interface AsyncJooqSQLClient {
      */
     Single<Long> insertReturning(Query query);
 
+    /**
+     * Runs a multi-row insert and computes the ids generated by MySQL. The ids of a multi-row insert are consecutive,
+     * so they are derived from the first inserted id and the <code>auto_increment_increment</code> of the connection.
+     * @param query a jOOQ-query inserting rows whose ids are all generated by the database
+     * @return A Single returning the ids of the inserted rows in the order of the rows
+     */
+    Single<List<Long>> insertReturningKeys(Query query);
+
+    /**
+     * Executes all queries of the given function on the same connection. DAOs that should use the connection
+     * need to be created with the client passed to the function.
+     * @param function a function that runs queries with the passed client and returns a Single that completes
+     *                 when all queries are done.
+     * @param <T> the result type
+     * @return A Single returning the result of the function. The connection is released when it terminates.
+     */
+    <T> Single<T> withConnection(Function<AsyncJooqSQLClient, Single<T>> function);
+
+    /**
+     * Executes all queries of the given function in a transaction on the same connection. The transaction is
+     * committed when the Single returned by the function succeeds, otherwise it is rolled back. Calling this method
+     * on a client that is already part of a transaction executes the function in the existing transaction.
+     * @param function a function that runs queries with the passed client and returns a Single that completes
+     *                 when all queries are done.
+     * @param <T> the result type
+     * @return A Single returning the result of the function or failing with the exception that failed the function
+     * or the commit.
+     */
+    <T> Single<T> withTransaction(Function<AsyncJooqSQLClient, Single<T>> function);
+
+    /**
+     * @return whether all queries of this client are executed on the same connection, which is the case for the
+     * clients passed to the functions of <code>withConnection</code> and <code>withTransaction</code>. A connection
+     * executes one query at a time, so such a client must not be used by concurrent queries.
+     */
+    boolean isConnectionBound();
+
     /**
      * @return the underlying client
      */
@@ -1,21 +1,33 @@
 package io.github.jklingsporn.vertx.jooq.async.rx;
 
 import io.github.jklingsporn.vertx.jooq.async.rx.util.RXTool;
+import io.github.jklingsporn.vertx.jooq.async.shared.Page;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
 import io.github.jklingsporn.vertx.jooq.async.shared.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.StatementPlans;
 import io.github.jklingsporn.vertx.jooq.async.shared.internal.VertxDAOHelper;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
 import org.jooq.DAO;
 import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.SortField;
 import org.jooq.UpdatableRecord;
 import org.jooq.impl.DSL;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="http://escoffier.me">Clement Escoffier</a>
@@ -33,6 +45,30 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      */
     Function<JsonObject, P> jsonMapper();
 
+    /**
+     * @return the SQL of the primary key based operations rendered by the code generator or <code>null</code>
+     * if the queries should be built by jOOQ on every call. Generated DAOs overwrite this method.
+     */
+    default StatementPlans statementPlans(){
+        return null;
+    }
+
+    /**
+     * @return a writer of the bind values of a POJO or <code>null</code> if the POJO should be copied into a
+     * <code>Record</code> instead. Generated DAOs overwrite this method.
+     */
+    default PojoWriter<P> pojoWriter(){
+        return null;
+    }
+
+    /**
+     * @return a copier of a POJO into a <code>Record</code> or <code>null</code> if jOOQ's reflective record
+     * mapping should be used. Generated DAOs overwrite this method.
+     */
+    default RecordCopier<P,R> recordCopier(){
+        return null;
+    }
+
     /**
      * Checks if a given ID exists asynchronously
      *
@@ -42,7 +78,18 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #existsById(Object)
      */
     default Single<Boolean> existsByIdAsync(T id) {
-        return findByIdAsync(id).map(p->p!=null);
+        return VertxDAOHelper.existsByIdAsync(id, this, query -> client().fetch(query, json -> Boolean.TRUE).map(rows -> !rows.isEmpty()));
+    }
+
+    /**
+     * Checks if a record matching the given condition exists asynchronously. The record is not fetched.
+     *
+     * @param condition the condition to match
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<Boolean> existsAsync(Condition condition) {
+        return VertxDAOHelper.existsAsync(condition, this, query -> client().fetch(query, json -> Boolean.TRUE).map(rows -> !rows.isEmpty()));
     }
 
     /**
@@ -53,7 +100,38 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #count()
      */
     default Single<Long> countAsync() {
-        return VertxDAOHelper.countAsync(this, client()::fetchOne).map(opt -> (Long) opt.get());
+        return VertxDAOHelper.countAsync(this, statementPlans(), client()::fetchOne).map(opt -> (Long) opt.get());
+    }
+
+    /**
+     * Count the records matching the given condition asynchronously.
+     *
+     * @param condition the condition to count the records
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<Long> countAsync(Condition condition) {
+        return VertxDAOHelper.countAsync(condition, this, client()::fetchOne).map(opt -> ((Number) opt.get()).longValue());
+    }
+
+    /**
+     * Estimate the number of records of the underlying table asynchronously from the statistics of the database
+     * catalog instead of scanning the table. The estimate is cached per table and configuration for
+     * <code>DAOSettings#getApproxCountTtlMillis</code>. If the catalog has no statistics of the table or the estimate
+     * is below <code>DAOSettings#getExactCountThreshold</code>, the records are counted exactly like
+     * {@link #countAsync()}. Only supported on MySQL and Postgres.
+     *
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<Long> countApproxAsync() {
+        Long cached = VertxDAOHelper.cachedApproxCount(this);
+        if(cached != null){
+            return Single.just(cached);
+        }
+        return VertxDAOHelper.countApproxAsync(this, client()::fetchOne)
+                .flatMap(estimate -> VertxDAOHelper.requiresExactCount(this, estimate) ? countAsync() : Single.just(estimate.get()))
+                .map(count -> VertxDAOHelper.cacheApproxCount(this, count));
     }
 
     /**
@@ -77,7 +155,23 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * @see #findById(Object)
      */
     default Single<P> findByIdAsync(T id) {
-        return VertxDAOHelper.applyConditionally(id,getTable(),this::fetchOneAsync);
+        return VertxDAOHelper.fetchOneByIdAsync(id, this, statementPlans(), query -> client().fetchOne(query, jsonMapper()));
+    }
+
+    /**
+     * Find the records of the underlying table by their IDs asynchronously using a single query.
+     *
+     * @param ids The IDs of the records in the underlying table. Composite keys are given as <code>Record</code>.
+     * @return Single which succeeds with the records keyed by their ID or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception.
+     * IDs without a record are missing in the map.
+     * @see #findById(Object)
+     */
+    default Single<Map<T,P>> findByIdsAsync(Collection<T> ids) {
+        if(ids.isEmpty()){
+            return Single.just(new HashMap<>());
+        }
+        return VertxDAOHelper.fetchByIdsAsync(ids, this, recordCopier(), (query, byId) -> client().fetch(query, jsonMapper()).map(byId::apply));
     }
 
     /**
@@ -102,7 +196,7 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * e.g. when more than one result is returned.
      */
     default <Z> Single<P> fetchOneAsync(Condition condition) {
-        return client().fetchOne(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper());
+        return VertxDAOHelper.fetchOneAsync(condition, this, query -> client().fetchOne(query, jsonMapper()));
     }
 
     /**
@@ -122,16 +216,40 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * Find records by a given field and a set of values asynchronously.
      *
      * @param field  The field to compare values against
-     * @param values The accepted values
+     * @param values The accepted values. Large collections are fetched in chunks of distinct values concurrently
+     *               according to the <code>DAOSettings</code> of this DAO's configuration. If the client of this DAO
+     *               is bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *               chunks are fetched one after another.
      * @return Single which succeeds when the blocking method of this type succeeds or fails
      * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default <Z> Single<List<P>> fetchAsync(Field<Z> field, Collection<Z> values) {
-        return fetchAsync(field.in(values));
+        return VertxDAOHelper.fetchInAsync(field, values, this, (queries, parallelism) -> queries.size() == 1
+                ? client().fetch(queries.get(0), jsonMapper())
+                : Flowable.fromIterable(queries)
+                        .concatMapEager(query -> client().fetch(query, jsonMapper()).toFlowable(), client().isConnectionBound() ? 1 : parallelism, 1)
+                        .flatMapIterable(pojos -> pojos)
+                        .toList());
     }
 
     default <Z> Observable<P> fetchObservable(Field<Z> field, Collection<Z> values) {
-        return fetchObservable(field.in(values));
+        return fetchFlowable(field, values).toObservable();
+    }
+
+    /**
+     * Streams records by a given field and a set of values.
+     *
+     * @param field  The field to compare values against
+     * @param values The accepted values. Large collections are fetched in chunks of distinct values concurrently
+     *               according to the <code>DAOSettings</code> of this DAO's configuration. If the client of this DAO
+     *               is bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *               chunks are fetched one after another.
+     * @return Flowable emitting the records according to the demand of the subscriber
+     * @see #fetchFlowable(Condition)
+     */
+    default <Z> Flowable<P> fetchFlowable(Field<Z> field, Collection<Z> values) {
+        return VertxDAOHelper.fetchInAsync(field, values, this, (queries, parallelism) -> Flowable.fromIterable(queries)
+                .flatMap(query -> client().fetchFlowable(query, jsonMapper()), client().isConnectionBound() ? 1 : parallelism));
     }
 
     /**
@@ -145,8 +263,135 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
         return client().fetch(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper());
     }
 
+    /**
+     * Find a page of records by a given condition asynchronously. Instead of skipping the records of the previous pages
+     * with an offset, only records ordered after the given key are fetched (keyset pagination), so each page costs
+     * the same no matter how deep it is. The order fields should be unique, e.g. end with the primary key.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param afterKey the values of the order fields of the last record of the previous page or <code>null</code> to
+     *                 fetch the first page
+     * @param limit the maximum number of records of the page
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<List<P>> fetchPageAsync(Condition condition, List<? extends SortField<?>> orderFields, Object[] afterKey, int limit) {
+        return VertxDAOHelper.fetchPageAsync(condition, orderFields, afterKey, limit, this, query -> client().fetch(query, jsonMapper()));
+    }
+
+    /**
+     * Find a page of records by a given condition ordered by their primary key asynchronously.
+     *
+     * @param condition the condition to fetch the values
+     * @param afterId the ID of the last record of the previous page or <code>null</code> to fetch the first page
+     * @param limit the maximum number of records of the page
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     * @see #fetchPageAsync(Condition, List, Object[], int)
+     */
+    default Single<List<P>> fetchPageAsync(Condition condition, T afterId, int limit) {
+        return VertxDAOHelper.fetchPageAsync(condition, afterId, limit, this, query -> client().fetch(query, jsonMapper()));
+    }
+
+    /**
+     * Find a page of records by a given condition together with the total number of records matching the condition
+     * asynchronously. The total is selected by the same statement using <code>COUNT(*) OVER()</code> on Postgres and
+     * MySQL 8. On other MySQL dialects and MariaDB the statement is followed by <code>SELECT FOUND_ROWS()</code> on
+     * the same connection. Other dialects are not supported and fail with an <code>UnsupportedOperationException</code>.
+     *
+     * @param condition the condition to fetch the values
+     * @param orderFields the fields to order the records by
+     * @param limit the maximum number of records of the page
+     * @param offset the number of records to skip
+     * @return Single which succeeds when the blocking method of this type succeeds or fails
+     * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<Page<P>> fetchPageWithTotalAsync(Condition condition, List<? extends SortField<?>> orderFields, int limit, int offset) {
+        return Single.defer(() -> VertxDAOHelper.fetchPageWithTotalAsync(condition, orderFields, limit, offset, this, (query, totalQuery) ->
+                client().withConnection(connection -> connection.fetch(query, Function.<JsonObject>identity()).flatMap(rows -> {
+                    Query total = totalQuery.apply(rows);
+                    return total == null
+                            ? Single.just(VertxDAOHelper.toPage(rows, null, jsonMapper()))
+                            : connection.fetchOne(total, Function.<JsonObject>identity()).map(json -> VertxDAOHelper.toPage(rows, json, jsonMapper()));
+                }))));
+    }
+
     default Observable<P> fetchObservable(Condition condition) {
-        return fetchAsync(condition).flatMapObservable(Observable::fromIterable);
+        return fetchFlowable(condition).toObservable();
+    }
+
+    /**
+     * Streams records by a given condition. In contrast to {@link #fetchAsync(Condition)} the results are not
+     * collected into a list but emitted one by one according to the demand of the subscriber. The connection is
+     * released when the Flowable terminates or is cancelled.
+     *
+     * @param condition the condition to fetch the values
+     * @return Flowable emitting the records or failing with an exception if the query fails.
+     */
+    default Flowable<P> fetchFlowable(Condition condition) {
+        return client().fetchFlowable(DSL.using(configuration()).selectFrom(getTable()).where(condition), jsonMapper());
+    }
+
+    /**
+     * Scans all records matching the given condition in primary key order and emits them in chunks. Each chunk is
+     * fetched by its own query seeking after the primary key of the last record of the previous chunk, so neither
+     * the whole result is held in memory nor a cursor is held open during the scan. The next chunk is only fetched
+     * when the subscriber requests it.
+     *
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @return Flowable emitting the chunks of records or failing with the first exception of a query.
+     */
+    default Flowable<List<P>> scanAsync(int batchSize, Condition condition) {
+        return new Function<Object[], Flowable<List<P>>>() {
+            @Override
+            public Flowable<List<P>> apply(Object[] afterKey) {
+                return VertxDAOHelper.scanAsync(condition, afterKey, batchSize, VertxDAO.this, recordCopier(), (query, lastKey) ->
+                        client().fetch(query, jsonMapper()).toFlowable().concatMap(chunk -> {
+                            if(chunk.isEmpty()){
+                                return Flowable.empty();
+                            }
+                            if(chunk.size() < batchSize){
+                                return Flowable.just(chunk);
+                            }
+                            return Flowable.just(chunk).concatWith(Flowable.defer(() -> apply(lastKey.apply(chunk))));
+                        }));
+            }
+        }.apply(null);
+    }
+
+    /**
+     * Splits the records matching the given condition into partitions by the range of their primary key. Each
+     * partition can be scanned on its own, e.g. with {@link #scanAsync(int, Condition)}. Only tables with a single
+     * integral primary key can be partitioned.
+     *
+     * @param partitions the maximum number of partitions
+     * @param condition the condition to fetch the values
+     * @return Single emitting a condition per partition or failing
+     *                      with an <code>DataAccessException</code> if the blocking method of this type throws an exception
+     */
+    default Single<List<Condition>> partitionAsync(int partitions, Condition condition) {
+        return VertxDAOHelper.partitionAsync(condition, partitions, this, (query, splitter) -> client().fetchOne(query, splitter));
+    }
+
+    /**
+     * Scans the records matching the given condition in partitions of their primary key range concurrently and merges
+     * the chunks of all partitions into one <code>Flowable</code>. Each partition is scanned like
+     * {@link #scanAsync(int, Condition)}, so up to <code>parallelism</code> connections of the pool are used at the
+     * same time. Use {@link #partitionAsync(int, Condition)} to scan the partitions as separate streams instead.
+     *
+     * @param partitions the maximum number of partitions
+     * @param parallelism the maximum number of partitions scanned at the same time. If the client of this DAO is
+     *                    bound to a connection by <code>withConnection</code> or <code>withTransaction</code>, the
+     *                    partitions are scanned one after another.
+     * @param batchSize the maximum number of records per chunk
+     * @param condition the condition to fetch the values
+     * @return Flowable emitting the chunks of records of all partitions or failing with the first exception of a query.
+     */
+    default Flowable<List<P>> scanPartitionedAsync(int partitions, int parallelism, int batchSize, Condition condition) {
+        return partitionAsync(partitions, condition).flatMapPublisher(conditions -> Flowable.fromIterable(conditions)
+                .flatMap(partition -> scanAsync(batchSize, partition), client().isConnectionBound() ? 1 : parallelism));
     }
 
     /**
@@ -159,7 +404,7 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      */
     @SuppressWarnings("unchecked")
     default Single<Integer> deleteExecAsync(T id) {
-        return VertxDAOHelper.applyConditionally(id, getTable(), this::deleteExecAsync);
+        return VertxDAOHelper.deleteByIdAsync(id, this, statementPlans(), client()::execute);
     }
 
     /**
@@ -192,12 +437,13 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * Performs an async <code>UPDATE</code> statement for a given POJO and passes the number of affected rows
      * to the <code>resultHandler</code>.
      *
+     * If the POJO tracks its changes, they are reset after a successful update.
      * @param object The POJO to be updated
      * @return Single which succeeds when the blocking method of this type succeeds or fails
      * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default Single<Integer> updateExecAsync(P object) {
-        return VertxDAOHelper.updateExecAsync(object,this, query-> client().execute(query));
+        return VertxDAOHelper.updateExecAsync(object, this, recordCopier(), query-> client().execute(query).doOnSuccess(updated -> object.resetChanges()));
     }
 
     /**
@@ -209,19 +455,119 @@ public interface VertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T>
      * with an <code>DataAccessException</code> if the blocking method of this type throws an exception
      */
     default Single<Integer> insertExecAsync(P object) {
-        return VertxDAOHelper.insertExecAsync(object, this, query->client().execute(query));
+        return VertxDAOHelper.insertExecAsync(object, this, pojoWriter(), query->client().execute(query));
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs. The POJOs are split into several
+     * statements according to the <code>DAOSettings</code> of this DAO's configuration which are executed one after
+     * another in a transaction, so either all POJOs are inserted or none. When the client already is in a
+     * transaction, the statements join it.
+     *
+     * @param objects The POJOs to be inserted
+     * @return Single returning the number of affected rows or failing with the exception of the first failing
+     * statement
+     */
+    default Single<Integer> insertExecAsync(Collection<P> objects) {
+        return VertxDAOHelper.insertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                return Single.just(0);
+            }
+            Function<AsyncJooqSQLClient, Single<Integer>> insertAll = client -> Flowable.fromIterable(queries)
+                    .concatMap(query -> client.execute(query).toFlowable())
+                    .reduce(0, Integer::sum);
+            return queries.size() > 1 ? client().withTransaction(insertAll) : client().withConnection(insertAll);
+        });
+    }
+
+    /**
+     * Performs an async <code>INSERT</code> statement for a given POJO that updates the existing row instead if a row
+     * with the same primary key exists. It is executed as <code>INSERT ... ON DUPLICATE KEY UPDATE</code> on MySQL
+     * and as <code>INSERT ... ON CONFLICT ... DO UPDATE</code> on Postgres. Note that MySQL counts an updated row
+     * twice.
+     *
+     * @param object The POJO to be inserted or updated
+     * @return Single returning the number of affected rows
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default Single<Integer> upsertExecAsync(P object) {
+        return VertxDAOHelper.upsertExecAsync(object, this, pojoWriter(), query->client().execute(query));
+    }
+
+    /**
+     * Performs async multi-row upserts like {@link #upsertExecAsync(Object)} for the given POJOs. The POJOs are split
+     * into several statements which run in a transaction like {@link #insertExecAsync(Collection)}.
+     *
+     * @param objects The POJOs to be inserted or updated
+     * @return Single returning the number of affected rows or failing with the exception of the first failing
+     * statement
+     * @throws UnsupportedOperationException if the dialect is neither MySQL nor Postgres
+     */
+    default Single<Integer> upsertExecAsync(Collection<P> objects) {
+        return VertxDAOHelper.upsertExecAsync(objects, this, pojoWriter(), queries -> {
+            if(queries.isEmpty()){
+                return Single.just(0);
+            }
+            Function<AsyncJooqSQLClient, Single<Integer>> upsertAll = client -> Flowable.fromIterable(queries)
+                    .concatMap(query -> client.execute(query).toFlowable())
+                    .reduce(0, Integer::sum);
+            return queries.size() > 1 ? client().withTransaction(upsertAll) : client().withConnection(upsertAll);
+        });
     }
 
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO and passes the primary key
      * to the <code>resultHandler</code>. When the value could not be inserted, the <code>resultHandler</code>
-     * will fail.
+     * will fail. On Postgres the key is returned by the <code>INSERT</code> using <code>RETURNING</code>, so keys of
+     * any type and composite keys are supported. On MySQL the last generated id is used.
      *
      * @param object The POJO to be inserted
      * @return the Single
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
      */
     default Single<T> insertReturningPrimaryAsync(P object) {
-        return VertxDAOHelper.insertReturningPrimaryAsync(object,this,(query,keyConverter)->client().insertReturning(query).map(RXTool.toFunction(keyConverter)));
+        return VertxDAOHelper.insertReturningPrimaryAsync(object, this, recordCopier(),
+                (query,keyConverter)->client().insertReturning(query).map(RXTool.toFunction(keyConverter)),
+                (query,mapper)->client().fetchOne(query, mapper));
+    }
+
+    /**
+     * Performs async multi-row <code>INSERT</code> statements for the given POJOs like
+     * <code>insertExecAsync(Collection)</code> and returns the primary keys of the inserted rows in the order of the
+     * POJOs. Like there, several statements run in a transaction. The statements use bound parameters. On Postgres the keys are returned by the statements using
+     * <code>RETURNING</code>. On MySQL they are computed from the first generated id and the
+     * <code>auto_increment_increment</code>, so all keys have to be generated by the database.
+     *
+     * @param objects The POJOs to be inserted
+     * @return Single returning the primary keys
+     * @throws UnsupportedOperationException on MySQL, if the PK length is greater 1 or the PK is not of type int or long
+     * @throws IllegalArgumentException on MySQL, if a POJO contains a primary key
+     */
+    default Single<List<T>> insertReturningPrimaryAsync(Collection<P> objects) {
+        BiFunction<List<Query>, BiFunction<AsyncJooqSQLClient, Query, Single<List<T>>>, Single<List<T>>> insertAll = (queries, insert) -> {
+            if(queries.isEmpty()){
+                return Single.just(new ArrayList<>());
+            }
+            Function<AsyncJooqSQLClient, Single<List<T>>> insertChunks = client -> Flowable.fromIterable(queries)
+                    .concatMap(query -> insert.apply(client, query).flattenAsFlowable(keys -> keys))
+                    .toList();
+            return queries.size() > 1 ? client().withTransaction(insertChunks) : client().withConnection(insertChunks);
+        };
+        return VertxDAOHelper.insertReturningPrimaryAsync(objects, this, pojoWriter(),
+                (queries, keyConverter) -> insertAll.apply(queries, (client, query) -> client.insertReturningKeys(query)
+                        .map(ids -> ids.stream().map(keyConverter).collect(Collectors.toList()))),
+                (queries, mapper) -> insertAll.apply(queries, (client, query) -> client.fetch(query, mapper)));
+    }
+
+    /**
+     * Performs an async <code>INSERT ... RETURNING</code> statement for a given POJO.
+     *
+     * @param object The POJO to be inserted
+     * @return Single returning the inserted row, including all values generated by the database.
+     * @throws UnsupportedOperationException if the dialect does not support <code>RETURNING</code>, e.g. MySQL
+     */
+    default Single<P> insertReturningAsync(P object) {
+        return VertxDAOHelper.insertReturningAsync(object, this, recordCopier(), query -> client().fetchOne(query, jsonMapper()));
     }
 
 }
@@ -1,6 +1,11 @@
 package io.github.jklingsporn.vertx.jooq.async.rx.util;
 
 import io.github.jklingsporn.vertx.jooq.async.rx.AsyncJooqSQLClient;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.GeneratedKeys;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.RowMappers;
+import io.github.jklingsporn.vertx.jooq.async.shared.internal.SQLRenderCache;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -11,10 +16,9 @@ import io.vertx.reactivex.ext.sql.SQLConnection;
 import org.jooq.Param;
 import org.jooq.Query;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 13.06.17.
@@ -23,27 +27,55 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
 
     private final Vertx vertx;
     private final AsyncSQLClient delegate;
+    private final SQLRenderCache renderCache;
+    /**
+     * The connection all queries are executed on or <code>null</code> if a connection is obtained from the pool
+     * for each query.
+     */
+    private final SQLConnection connection;
+    private final boolean transaction;
 
     public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate) {
+        this(vertx, delegate, SQLRenderCache.getInstance());
+    }
+
+    public AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache) {
+        this(vertx, delegate, renderCache, null, false);
+    }
+
+    private AsyncJooqSQLClientImpl(Vertx vertx, AsyncSQLClient delegate, SQLRenderCache renderCache, SQLConnection connection, boolean transaction) {
         this.vertx = vertx;
         this.delegate = delegate;
+        this.renderCache = renderCache;
+        this.connection = connection;
+        this.transaction = transaction;
     }
 
     @Override
     public <P> Single<List<P>> fetch(Query query, java.util.function.Function<JsonObject, P> mapper){
         return getConnection().flatMap(executeAndClose(sqlConnection ->
-                sqlConnection.rxQueryWithParams(query.getSQL(), getBindValues(query)).map(rs ->
-                                rs.getRows().stream().map(mapper).collect(Collectors.toList())
-                )));
+                sqlConnection.rxQueryWithParams(renderCache.getSQL(query), getBindValues(query)).map(rs -> RowMappers.map(rs, mapper))
+                ));
     }
 
     @Override
     public <P> Single<P> fetchOne(Query query, Function<JsonObject, P> mapper){
         return getConnection().flatMap(executeAndClose(sqlConnection ->
-            sqlConnection.rxQueryWithParams(query.getSQL(), getBindValues(query)).map(rs -> {
-                Optional<P> optional = rs.getRows().stream().findFirst().map(mapper);
-                return optional.orElseGet(() -> null);
-            })));
+            sqlConnection.rxQueryWithParams(renderCache.getSQL(query), getBindValues(query)).map(rs -> RowMappers.mapOne(rs, mapper))
+            ));
+    }
+
+    @Override
+    public <P> Flowable<P> fetchFlowable(Query query, Function<JsonObject, P> mapper){
+        return getConnection().flatMapPublisher(sqlConnection ->
+                sqlConnection.rxQueryStreamWithParams(renderCache.getSQL(query), getBindValues(query))
+                        .flatMapPublisher(rowStream -> {
+                            Function<JsonArray, P> rowMapper = RowMappers.forColumns(rowStream.columns(), mapper);
+                            return rowStream.toFlowable()
+                                    .map(rowMapper::apply)
+                                    .doOnCancel(rowStream::close);
+                        })
+                        .doFinally(() -> release(sqlConnection)));
     }
 
     @Override
@@ -51,7 +83,7 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         return getConnection()
                 .flatMap(executeAndClose(sqlConnection ->
                         sqlConnection
-                                .rxUpdateWithParams(query.getSQL(), getBindValues(query))
+                                .rxUpdateWithParams(renderCache.getSQL(query), getBindValues(query))
                                 .map(UpdateResult::getUpdated))
                 );
     }
@@ -61,17 +93,69 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
         return getConnection()
                 .flatMap(executeAndClose(sqlConnection ->
                                 sqlConnection
-                                        .rxUpdateWithParams(query.getSQL(), getBindValues(query))
+                                        .rxUpdateWithParams(renderCache.getSQL(query), getBindValues(query))
                                         .map(updateResult -> updateResult.getKeys().getLong(0)))
                 );
     }
 
+    @Override
+    public Single<List<Long>> insertReturningKeys(Query query) {
+        return getConnection()
+                .flatMap(executeAndClose(sqlConnection ->
+                                sqlConnection
+                                        .rxUpdateWithParams(renderCache.getSQL(query), getBindValues(query))
+                                        //the step is a session variable, so it has to be read from the same connection
+                                        .flatMap(updateResult -> sqlConnection
+                                                .rxQuery(GeneratedKeys.AUTO_INCREMENT_INCREMENT)
+                                                .map(step -> GeneratedKeys.of(updateResult, step))))
+                );
+    }
+
+    @Override
+    public <T> Single<T> withConnection(Function<AsyncJooqSQLClient, Single<T>> function) {
+        if(connection != null){
+            return Single.defer(() -> function.apply(this));
+        }
+        return getConnection().flatMap(sqlConnection ->
+                Single.defer(() -> function.apply(new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, false)))
+                        .doFinally(() -> release(sqlConnection)));
+    }
+
+    @Override
+    public <T> Single<T> withTransaction(Function<AsyncJooqSQLClient, Single<T>> function) {
+        if(transaction){
+            return Single.defer(() -> function.apply(this));
+        }
+        return getConnection().flatMap(sqlConnection -> {
+            AsyncJooqSQLClient client = new AsyncJooqSQLClientImpl(vertx, delegate, renderCache, sqlConnection, true);
+            Single<T> result = sqlConnection.rxSetAutoCommit(false)
+                    .andThen(Single.defer(() -> function.apply(client)))
+                    .flatMap(res -> sqlConnection.rxCommit().andThen(Single.just(res)))
+                    .onErrorResumeNext(x -> sqlConnection.rxRollback().onErrorComplete().andThen(Single.<T>error(x)));
+            if(connection != null){
+                //the connection is bound by withConnection, so restore auto commit
+                Completable restoreAutoCommit = sqlConnection.rxSetAutoCommit(true);
+                result = result
+                        .onErrorResumeNext(x -> restoreAutoCommit.onErrorComplete().andThen(Single.<T>error(x)))
+                        .flatMap(res -> restoreAutoCommit.andThen(Single.just(res)));
+            }
+            return result.doFinally(() -> release(sqlConnection));
+        });
+    }
+
     private JsonArray getBindValues(Query query) {
         JsonArray bindValues = new JsonArray();
         for (Param<?> param : query.getParams().values()) {
+            if(param.isInline()){
+                //rendered into the SQL, e.g. the 1 of SELECT 1
+                continue;
+            }
             Object value = convertToDatabaseType(param);
             if(value==null){
                 bindValues.addNull();
+            }else if(value instanceof Object[]){
+                //arrays are bound as a single parameter, e.g. by Postgres' unnest and ANY
+                bindValues.add(new JsonArray(Arrays.asList((Object[]) value)));
             }else{
                 bindValues.add(value);
             }
@@ -87,11 +171,25 @@ public class AsyncJooqSQLClientImpl implements AsyncJooqSQLClient {
      * @return a CompletableFuture that returns a SQLConnection or an Exception.
      */
     private Single<SQLConnection> getConnection(){
-        return delegate().rxGetConnection();
+        return connection != null ? Single.just(connection) : delegate().rxGetConnection();
     }
 
     private <R> io.reactivex.functions.Function<SQLConnection, Single<? extends  R>> executeAndClose(Function<SQLConnection, Single<? extends R>> func) {
-        return sqlConnection -> func.apply(sqlConnection).doAfterTerminate(sqlConnection::close);
+        return sqlConnection -> func.apply(sqlConnection).doAfterTerminate(() -> release(sqlConnection));
+    }
+
+    /**
+     * Closes the given connection unless it is bound to this client.
+     */
+    private void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
+    @Override
+    public boolean isConnectionBound() {
+        return connection != null;
     }
 
     @Override
@@ -0,0 +1,204 @@
+package io.github.jklingsporn.vertx.jooq.async.shared;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.Configuration;
+
+/**
+ * Settings of the VertxDAOs that are not covered by jOOQ's <code>Settings</code>. The settings are stored in the
+ * <code>Configuration</code> of a DAO, e.g.
+ * <pre>
+ *     DAOSettings.of(configuration).withMaxInsertRows(500).applyTo(configuration);
+ * </pre>
+ * Instances are immutable.
+ */
+public class DAOSettings {
+
+    /**
+     * The default maximum number of rows inserted by a single multi-row <code>INSERT</code>.
+     */
+    public static final int DEFAULT_MAX_INSERT_ROWS = 1000;
+
+    /**
+     * The default maximum estimated size of a single multi-row <code>INSERT</code> in bytes. It is well below
+     * the default <code>max_allowed_packet</code> of MySQL 5.7.
+     */
+    public static final int DEFAULT_MAX_INSERT_BYTES = 1024 * 1024;
+
+    /**
+     * The default maximum number of values of a single <code>IN</code>-list built from a collection of values.
+     */
+    public static final int DEFAULT_MAX_IN_LIST_SIZE = 1000;
+
+    /**
+     * The default maximum number of chunks of an <code>IN</code>-list that are fetched concurrently.
+     */
+    public static final int DEFAULT_MAX_IN_LIST_PARALLELISM = 4;
+
+    /**
+     * The default time in milliseconds an approximate row count is cached.
+     */
+    public static final long DEFAULT_APPROX_COUNT_TTL_MILLIS = 60_000;
+
+    private static final String KEY = DAOSettings.class.getName();
+
+    private static final DAOSettings DEFAULT = new DAOSettings(DEFAULT_MAX_INSERT_ROWS, DEFAULT_MAX_INSERT_BYTES,
+            DEFAULT_MAX_IN_LIST_SIZE, DEFAULT_MAX_IN_LIST_PARALLELISM, false, DEFAULT_APPROX_COUNT_TTL_MILLIS, 0);
+
+    private final int maxInsertRows;
+    private final int maxInsertBytes;
+    private final int maxInListSize;
+    private final int maxInListParallelism;
+    private final boolean inListPadding;
+    private final long approxCountTtlMillis;
+    private final long exactCountThreshold;
+
+    private DAOSettings(int maxInsertRows, int maxInsertBytes, int maxInListSize, int maxInListParallelism, boolean inListPadding,
+                        long approxCountTtlMillis, long exactCountThreshold) {
+        this.maxInsertRows = maxInsertRows;
+        this.maxInsertBytes = maxInsertBytes;
+        this.maxInListSize = maxInListSize;
+        this.maxInListParallelism = maxInListParallelism;
+        this.inListPadding = inListPadding;
+        this.approxCountTtlMillis = approxCountTtlMillis;
+        this.exactCountThreshold = exactCountThreshold;
+    }
+
+    /**
+     * @param configuration the configuration of a DAO
+     * @return the settings stored in the given configuration or the default settings.
+     */
+    public static DAOSettings of(Configuration configuration){
+        Object settings = configuration.data(KEY);
+        return settings instanceof DAOSettings ? (DAOSettings) settings : DEFAULT;
+    }
+
+    /**
+     * Stores these settings in the given configuration.
+     * @param configuration the configuration of a DAO
+     * @return these settings
+     */
+    public DAOSettings applyTo(Configuration configuration){
+        configuration.data(KEY, this);
+        return this;
+    }
+
+    /**
+     * @return the maximum number of rows inserted by a single multi-row <code>INSERT</code>.
+     */
+    public int getMaxInsertRows() {
+        return maxInsertRows;
+    }
+
+    /**
+     * @param maxInsertRows the maximum number of rows inserted by a single multi-row <code>INSERT</code>.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withMaxInsertRows(int maxInsertRows){
+        Arguments.require(maxInsertRows > 0, "maxInsertRows must be greater than 0");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return the maximum estimated size of a single multi-row <code>INSERT</code> in bytes.
+     */
+    public int getMaxInsertBytes() {
+        return maxInsertBytes;
+    }
+
+    /**
+     * @param maxInsertBytes the maximum estimated size of a single multi-row <code>INSERT</code> in bytes. A
+     *                       statement always contains at least one row, even if the row alone exceeds this size.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withMaxInsertBytes(int maxInsertBytes){
+        Arguments.require(maxInsertBytes > 0, "maxInsertBytes must be greater than 0");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return the maximum number of values of a single <code>IN</code>-list built from a collection of values.
+     */
+    public int getMaxInListSize() {
+        return maxInListSize;
+    }
+
+    /**
+     * @param maxInListSize the maximum number of values of a single <code>IN</code>-list built from a collection of
+     *                      values. Larger collections are fetched in chunks of distinct values.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withMaxInListSize(int maxInListSize){
+        Arguments.require(maxInListSize > 0, "maxInListSize must be greater than 0");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return the maximum number of chunks of an <code>IN</code>-list that are fetched concurrently.
+     */
+    public int getMaxInListParallelism() {
+        return maxInListParallelism;
+    }
+
+    /**
+     * @param maxInListParallelism the maximum number of chunks of an <code>IN</code>-list that are fetched
+     *                             concurrently. Each chunk occupies a connection of the pool while it is fetched.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withMaxInListParallelism(int maxInListParallelism){
+        Arguments.require(maxInListParallelism > 0, "maxInListParallelism must be greater than 0");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return whether <code>IN</code>-lists are padded to the next power of two.
+     */
+    public boolean isInListPadding() {
+        return inListPadding;
+    }
+
+    /**
+     * @param inListPadding whether <code>IN</code>-lists built from a collection of values are padded to the next
+     *                      power of two by repeating their last value. Lists of different lengths then share the
+     *                      same SQL, which keeps the number of distinct statements small. Lists are never padded
+     *                      beyond <code>getMaxInListSize</code>.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withInListPadding(boolean inListPadding){
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return the time in milliseconds an approximate row count is cached.
+     */
+    public long getApproxCountTtlMillis() {
+        return approxCountTtlMillis;
+    }
+
+    /**
+     * @param approxCountTtlMillis the time in milliseconds an approximate row count of a table is cached or 0 to
+     *                             not cache it at all.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withApproxCountTtlMillis(long approxCountTtlMillis){
+        Arguments.require(approxCountTtlMillis >= 0, "approxCountTtlMillis must not be negative");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+
+    /**
+     * @return the approximate row count below which the rows are counted exactly.
+     */
+    public long getExactCountThreshold() {
+        return exactCountThreshold;
+    }
+
+    /**
+     * @param exactCountThreshold the approximate row count below which the rows are counted exactly instead. Catalog
+     *                            statistics of small tables are often far off, while counting them is cheap. 0 never
+     *                            counts exactly unless the catalog has no statistics of the table.
+     * @return a copy of these settings with the given value
+     */
+    public DAOSettings withExactCountThreshold(long exactCountThreshold){
+        Arguments.require(exactCountThreshold >= 0, "exactCountThreshold must not be negative");
+        return new DAOSettings(maxInsertRows, maxInsertBytes, maxInListSize, maxInListParallelism, inListPadding, approxCountTtlMillis, exactCountThreshold);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.jklingsporn.vertx.jooq.async.shared;
+
+import java.util.List;
+
+/**
+ * A page of records together with the total number of records matching the condition the page has been fetched with.
+ * @param <P> the POJO type
+ */
+public class Page<P> {
+
+    private final List<P> records;
+    private final long total;
+
+    public Page(List<P> records, long total) {
+        this.records = records;
+        this.total = total;
+    }
+
+    /**
+     * @return the records of this page.
+     */
+    public List<P> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return the number of records matching the condition regardless of limit and offset.
+     */
+    public long getTotal() {
+        return total;
+    }
+}
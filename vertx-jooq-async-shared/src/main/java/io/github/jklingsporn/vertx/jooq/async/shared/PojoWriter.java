@@ -0,0 +1,17 @@
+package io.github.jklingsporn.vertx.jooq.async.shared;
+
+/**
+ * Writes the column values of a POJO into an array of bind values. Generated DAOs provide a writer that calls the
+ * getters of the POJO directly instead of converting it into a <code>JsonObject</code> or <code>Record</code> first.
+ * @param <P> the POJO type
+ */
+@FunctionalInterface
+public interface PojoWriter<P> {
+
+    /**
+     * @param pojo the POJO
+     * @param values an array with a length of at least the number of fields of the table. The value of each column is
+     *               written at the index of its field in the table.
+     */
+    void write(P pojo, Object[] values);
+}
@@ -0,0 +1,19 @@
+package io.github.jklingsporn.vertx.jooq.async.shared;
+
+import org.jooq.Record;
+
+/**
+ * Copies the values of a POJO into a <code>Record</code>. Generated DAOs provide a copier that calls the getters
+ * of the POJO and the setters of the record directly instead of using jOOQ's reflective record mapping.
+ * @param <P> the POJO type
+ * @param <R> the record type
+ */
+@FunctionalInterface
+public interface RecordCopier<P, R extends Record> {
+
+    /**
+     * @param pojo the POJO
+     * @param record the record to copy the values of the POJO into.
+     */
+    void copy(P pojo, R record);
+}
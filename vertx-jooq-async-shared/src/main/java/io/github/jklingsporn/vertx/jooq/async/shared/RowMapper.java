@@ -0,0 +1,48 @@
+package io.github.jklingsporn.vertx.jooq.async.shared;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A mapper that converts rows fetched from the vertx-client into POJOs. Besides mapping a row that has been
+ * converted into a <code>JsonObject</code>, it can map the positional results of a <code>ResultSet</code> directly.
+ * In that case the column indexes are resolved only once per result set.
+ * @param <P> the POJO type
+ */
+public interface RowMapper<P> extends Function<JsonObject,P> {
+
+    /**
+     * @param columnNames the column names of a result set.
+     * @return a function that maps a row of a result set with the given column names into a POJO. The default
+     * implementation converts each row into a <code>JsonObject</code> and applies this mapper.
+     */
+    default Function<JsonArray,P> forColumns(List<String> columnNames){
+        return row -> {
+            JsonObject json = new JsonObject();
+            for (int i = 0; i < columnNames.size(); i++) {
+                json.put(columnNames.get(i), row.getValue(i));
+            }
+            return apply(json);
+        };
+    }
+
+    /**
+     * @param columnNames the column names of a result set.
+     * @param names the column names a mapper reads.
+     * @return the index of each of the given <code>names</code> in <code>columnNames</code> or <code>null</code>
+     * if a name is not contained.
+     */
+    static int[] indexesOf(List<String> columnNames, String... names){
+        int[] indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indexes[i] = columnNames.indexOf(names[i]);
+            if(indexes[i] == -1){
+                return null;
+            }
+        }
+        return indexes;
+    }
+}
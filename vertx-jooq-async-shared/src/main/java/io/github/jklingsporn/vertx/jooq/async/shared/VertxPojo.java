@@ -8,4 +8,21 @@ public interface VertxPojo {
     public VertxPojo fromJson(io.vertx.core.json.JsonObject json);
 
     public io.vertx.core.json.JsonObject toJson();
+
+    /**
+     * POJOs generated with change tracking enabled remember which setters have been called since they have been
+     * fetched or since {@link #resetChanges()} has been called. The DAOs then only update these columns. POJOs that
+     * have not been fetched, e.g. created by a constructor or deserialized, report all columns as changed.
+     * @return a copy of the indexes of the changed columns in the order of the fields of the table or <code>null</code>
+     * if changes are not tracked.
+     */
+    public default java.util.BitSet changedColumns(){
+        return null;
+    }
+
+    /**
+     * Marks all columns as unchanged. Does nothing if changes are not tracked.
+     */
+    public default void resetChanges(){
+    }
 }
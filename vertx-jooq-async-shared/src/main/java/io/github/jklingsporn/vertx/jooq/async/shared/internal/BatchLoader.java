@@ -0,0 +1,156 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.Arguments;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the keys that are requested within a window and loads them with a single call of the batch function.
+ * With a window of 0 milliseconds all keys requested in the same event loop tick are batched. A batch is loaded
+ * immediately when it reaches its maximum size. Keys that are requested more than once per batch are only loaded
+ * once.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class BatchLoader<K,V> {
+
+    private final Vertx vertx;
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final BiConsumer<List<K>, Handler<AsyncResult<Map<K,V>>>> batchFunction;
+    private Map<K, List<Handler<AsyncResult<V>>>> pending = new LinkedHashMap<>();
+    /**
+     * Incremented whenever the pending keys are loaded, so a scheduled dispatch of a batch that has already been
+     * loaded does not load the next batch before its window has elapsed.
+     */
+    private long generation;
+    private long requests;
+    private long batches;
+
+    /**
+     * @param vertx the vertx instance used to schedule the batches.
+     * @param maxBatchSize the maximum number of distinct keys loaded by one batch.
+     * @param windowMillis the time in milliseconds keys are collected after the first key of a batch has been
+     *                     requested or 0 to collect the keys of the current event loop tick.
+     * @param batchFunction loads the values of the given keys. Keys without a value may be missing in the result.
+     */
+    public BatchLoader(Vertx vertx, int maxBatchSize, long windowMillis, BiConsumer<List<K>, Handler<AsyncResult<Map<K,V>>>> batchFunction) {
+        Arguments.require(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        Arguments.require(windowMillis >= 0, "windowMillis must not be negative");
+        this.vertx = vertx;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * @param key the key to load
+     * @param resultHandler succeeds with the value of the key or <code>null</code> if there is none or fails if the
+     *                      batch containing the key failed.
+     */
+    public void load(K key, Handler<AsyncResult<V>> resultHandler){
+        Map<K, List<Handler<AsyncResult<V>>>> full = null;
+        boolean schedule;
+        long batch;
+        synchronized (this){
+            requests++;
+            schedule = pending.isEmpty();
+            batch = generation;
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(resultHandler);
+            if(pending.size() == maxBatchSize){
+                full = takePending();
+            }
+        }
+        if(full != null){
+            dispatch(full);
+        }else if(schedule){
+            if(windowMillis == 0){
+                vertx.getOrCreateContext().runOnContext(v -> dispatch(batch));
+            }else{
+                vertx.setTimer(windowMillis, t -> dispatch(batch));
+            }
+        }
+    }
+
+    /**
+     * Loads the pending keys immediately.
+     */
+    public void dispatch(){
+        Map<K, List<Handler<AsyncResult<V>>>> batch;
+        synchronized (this){
+            if(pending.isEmpty()){
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Loads the pending keys if they still belong to the batch of the given generation.
+     */
+    private void dispatch(long batchGeneration){
+        Map<K, List<Handler<AsyncResult<V>>>> batch;
+        synchronized (this){
+            if(generation != batchGeneration || pending.isEmpty()){
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<K, List<Handler<AsyncResult<V>>>> takePending(){
+        Map<K, List<Handler<AsyncResult<V>>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        return batch;
+    }
+
+    private void dispatch(Map<K, List<Handler<AsyncResult<V>>>> batch){
+        synchronized (this){
+            batches++;
+        }
+        Handler<AsyncResult<Map<K,V>>> completion = res -> {
+            for (Map.Entry<K, List<Handler<AsyncResult<V>>>> entry : batch.entrySet()) {
+                AsyncResult<V> result = res.failed()
+                        ? Future.failedFuture(res.cause())
+                        : Future.succeededFuture(res.result().get(entry.getKey()));
+                entry.getValue().forEach(h -> h.handle(result));
+            }
+        };
+        try{
+            batchFunction.accept(new ArrayList<>(batch.keySet()), completion);
+        }catch(Throwable e){
+            completion.handle(Future.failedFuture(e));
+        }
+    }
+
+    /**
+     * @return the number of keys that have been requested.
+     */
+    public synchronized long requests(){
+        return requests;
+    }
+
+    /**
+     * @return the number of batches that have been loaded.
+     */
+    public synchronized long batches(){
+        return batches;
+    }
+
+    /**
+     * @return the average number of requested keys per batch or 0 if no batch has been loaded yet.
+     */
+    public synchronized double batchingRatio(){
+        return batches == 0 ? 0 : (double) requests / batches;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.Arguments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Executes a list of tasks asynchronously with at most <code>parallelism</code> tasks running at the same time.
+ * The results are passed in the order of the tasks. The execution fails with the first failed task and no further
+ * tasks are started afterwards.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class ConcurrentExecution<Q,V> {
+
+    private final List<Q> tasks;
+    private final BiConsumer<Q, Handler<AsyncResult<V>>> executor;
+    private final Handler<AsyncResult<List<V>>> resultHandler;
+    private final Object[] results;
+    private int next;
+    private int remaining;
+    private boolean done;
+
+    private ConcurrentExecution(List<Q> tasks, BiConsumer<Q, Handler<AsyncResult<V>>> executor, Handler<AsyncResult<List<V>>> resultHandler) {
+        this.tasks = tasks;
+        this.executor = executor;
+        this.resultHandler = resultHandler;
+        this.results = new Object[tasks.size()];
+        this.remaining = tasks.size();
+    }
+
+    /**
+     * @param tasks the tasks to execute
+     * @param parallelism the maximum number of tasks running at the same time
+     * @param executor executes a single task and passes its result to the given handler
+     * @param resultHandler succeeds with the results of all tasks or fails with the first failure
+     */
+    public static <Q,V> void execute(List<Q> tasks, int parallelism, BiConsumer<Q, Handler<AsyncResult<V>>> executor, Handler<AsyncResult<List<V>>> resultHandler){
+        Arguments.require(parallelism > 0, "parallelism must be greater than 0");
+        if(tasks.isEmpty()){
+            resultHandler.handle(Future.succeededFuture(new ArrayList<>()));
+            return;
+        }
+        ConcurrentExecution<Q,V> execution = new ConcurrentExecution<>(tasks, executor, resultHandler);
+        for (int i = 0; i < Math.min(parallelism, tasks.size()); i++) {
+            execution.startNext();
+        }
+    }
+
+    private void startNext(){
+        int index;
+        synchronized (this){
+            if(done || next == tasks.size()){
+                return;
+            }
+            index = next++;
+        }
+        try{
+            executor.accept(tasks.get(index), res -> complete(index, res));
+        }catch(Throwable e){
+            complete(index, Future.failedFuture(e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(int index, AsyncResult<V> res){
+        AsyncResult<List<V>> result = null;
+        synchronized (this){
+            if(done){
+                return;
+            }
+            if(res.failed()){
+                done = true;
+                result = Future.failedFuture(res.cause());
+            }else{
+                results[index] = res.result();
+                if(--remaining == 0){
+                    done = true;
+                    result = Future.succeededFuture((List<V>) Arrays.asList(results));
+                }
+            }
+        }
+        if(result != null){
+            resultHandler.handle(result);
+        }else{
+            startNext();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import io.vertx.ext.sql.ResultSet;
+import io.vertx.ext.sql.UpdateResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the ids MySQL generated for a multi-row insert. MySQL only returns the first generated id, but the ids
+ * of a single insert with a known number of rows are consecutive and spaced by <code>auto_increment_increment</code>.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class GeneratedKeys {
+
+    /**
+     * The query to read the step between two generated ids.
+     */
+    public static final String AUTO_INCREMENT_INCREMENT = "SELECT @@auto_increment_increment";
+
+    private GeneratedKeys() {
+    }
+
+    /**
+     * @param updateResult the result of the insert
+     * @param step the result of {@link #AUTO_INCREMENT_INCREMENT}
+     * @return the generated ids in the order of the inserted rows.
+     */
+    public static List<Long> of(UpdateResult updateResult, ResultSet step){
+        if(updateResult.getUpdated() == 0){
+            return Collections.emptyList();
+        }
+        long first = updateResult.getKeys().getLong(0);
+        long increment = step.getResults().get(0).getLong(0);
+        List<Long> keys = new ArrayList<>(updateResult.getUpdated());
+        for (int i = 0; i < updateResult.getUpdated(); i++) {
+            keys.add(first + i * increment);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import org.jooq.Configuration;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.conf.ParamType;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * A <code>Query</code> with SQL that has been rendered by the code generator. The SQL and the bind values are
+ * available without involving jOOQ. All other operations are delegated to a plain SQL query which is created lazily.
+ * Only meant to be used by vertx-jooq-async.
+ */
+final class PlannedQuery implements Query {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Configuration configuration;
+    private final String sql;
+    private final List<Param<?>> params;
+    private Query plainSQLQuery;
+
+    PlannedQuery(Configuration configuration, String sql, List<Param<?>> params) {
+        this.configuration = configuration;
+        this.sql = sql;
+        this.params = params;
+    }
+
+    private Query plainSQLQuery(){
+        if(plainSQLQuery == null){
+            plainSQLQuery = DSL.using(configuration).query(sql, params.toArray());
+        }
+        return plainSQLQuery;
+    }
+
+    @Override
+    public String getSQL() {
+        return sql;
+    }
+
+    @Override
+    @Deprecated
+    public String getSQL(boolean inline) {
+        return inline ? getSQL(ParamType.INLINED) : sql;
+    }
+
+    @Override
+    public String getSQL(ParamType paramType) {
+        return paramType == ParamType.INDEXED ? sql : plainSQLQuery().getSQL(paramType);
+    }
+
+    @Override
+    public List<Object> getBindValues() {
+        return params.stream().map(Param::getValue).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Param<?>> getParams() {
+        Map<String, Param<?>> result = new LinkedHashMap<>();
+        for (int i = 0; i < params.size(); i++) {
+            result.put(String.valueOf(i + 1), params.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public Param<?> getParam(String name) {
+        return getParams().get(name);
+    }
+
+    @Override
+    public int execute() throws DataAccessException {
+        return plainSQLQuery().execute();
+    }
+
+    @Override
+    public CompletionStage<Integer> executeAsync() {
+        return plainSQLQuery().executeAsync();
+    }
+
+    @Override
+    public CompletionStage<Integer> executeAsync(Executor executor) {
+        return plainSQLQuery().executeAsync(executor);
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return true;
+    }
+
+    @Override
+    public Query bind(String param, Object value) {
+        return plainSQLQuery().bind(param, value);
+    }
+
+    @Override
+    public Query bind(int index, Object value) {
+        return plainSQLQuery().bind(index, value);
+    }
+
+    @Override
+    public Query queryTimeout(int timeout) {
+        return plainSQLQuery().queryTimeout(timeout);
+    }
+
+    @Override
+    public Query keepStatement(boolean keepStatement) {
+        return plainSQLQuery().keepStatement(keepStatement);
+    }
+
+    @Override
+    public void close() throws DataAccessException {
+        if(plainSQLQuery != null){
+            plainSQLQuery.close();
+        }
+    }
+
+    @Override
+    public void cancel() throws DataAccessException {
+        if(plainSQLQuery != null){
+            plainSQLQuery.cancel();
+        }
+    }
+
+    @Override
+    public void attach(Configuration configuration) {
+        plainSQLQuery().attach(configuration);
+    }
+
+    @Override
+    public void detach() {
+        plainSQLQuery().detach();
+    }
+
+    @Override
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    @Override
+    public String toString() {
+        return getSQL(ParamType.INLINED);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import org.jooq.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the approximate row counts of tables until their time to live has expired. Each <code>Configuration</code>
+ * has its own cache stored in its data, so DAOs of the same table on different databases do not share their counts
+ * as long as they are created with different configurations.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class RowCountCache {
+
+    private static final String KEY = RowCountCache.class.getName();
+
+    /**
+     * @param configuration the configuration of a DAO
+     * @return the cache stored in the given configuration, which is created if there is none yet.
+     */
+    public static RowCountCache of(Configuration configuration){
+        synchronized (configuration){
+            Object cache = configuration.data(KEY);
+            if(cache instanceof RowCountCache){
+                return (RowCountCache) cache;
+            }
+            RowCountCache created = new RowCountCache();
+            configuration.data(KEY, created);
+            return created;
+        }
+    }
+
+    private final Map<Object,long[]> counts = new ConcurrentHashMap<>();
+
+    /**
+     * @param key the key of a table
+     * @return the cached count of the table or <code>null</code> if there is none or it has expired.
+     */
+    public Long get(Object key){
+        long[] entry = counts.get(key);
+        if(entry == null || entry[1] <= System.currentTimeMillis()){
+            return null;
+        }
+        return entry[0];
+    }
+
+    /**
+     * @param key the key of a table
+     * @param count the count of the table
+     * @param ttlMillis the time in milliseconds the count is cached. Counts with a ttl of 0 are not cached.
+     */
+    public void put(Object key, long count, long ttlMillis){
+        if(ttlMillis > 0){
+            counts.put(key, new long[]{count, System.currentTimeMillis() + ttlMillis});
+        }
+    }
+
+    /**
+     * Removes all cached counts.
+     */
+    public void clear(){
+        counts.clear();
+    }
+}
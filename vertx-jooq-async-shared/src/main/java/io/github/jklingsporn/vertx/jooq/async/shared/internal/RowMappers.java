@@ -0,0 +1,62 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import io.github.jklingsporn.vertx.jooq.async.shared.RowMapper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.sql.ResultSet;
+import org.jooq.exception.TooManyRowsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Maps the rows of a <code>ResultSet</code>. If the mapper is a {@link RowMapper}, the positional results are
+ * mapped directly, otherwise each row is converted into a <code>JsonObject</code> first.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class RowMappers {
+
+    private RowMappers() {
+    }
+
+    public static <P> Function<JsonArray,P> forColumns(List<String> columnNames, Function<JsonObject, P> mapper){
+        RowMapper<P> rowMapper = mapper instanceof RowMapper ? (RowMapper<P>) mapper : mapper::apply;
+        return rowMapper.forColumns(columnNames);
+    }
+
+    public static <P> List<P> map(ResultSet resultSet, Function<JsonObject, P> mapper){
+        List<JsonArray> results = resultSet.getResults();
+        List<P> mapped = new ArrayList<>(results.size());
+        if(!results.isEmpty()){
+            Function<JsonArray, P> rowMapper = forColumns(resultSet.getColumnNames(), mapper);
+            for (JsonArray row : results) {
+                mapped.add(rowMapper.apply(row));
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * @return the only row of the <code>ResultSet</code> mapped into a POJO or <code>null</code> if it is empty.
+     * @throws TooManyRowsException if the <code>ResultSet</code> contains more than one row.
+     */
+    public static <P> P mapOne(ResultSet resultSet, Function<JsonObject, P> mapper){
+        if(resultSet.getNumRows() > 1){
+            throw new TooManyRowsException(String.format("Got more than one row: %d",resultSet.getNumRows()));
+        }
+        return mapFirst(resultSet, mapper);
+    }
+
+    /**
+     * @return the first row of the <code>ResultSet</code> mapped into a POJO or <code>null</code> if it is empty.
+     */
+    public static <P> P mapFirst(ResultSet resultSet, Function<JsonObject, P> mapper){
+        List<JsonArray> results = resultSet.getResults();
+        if(results.isEmpty()){
+            return null;
+        }
+        return forColumns(resultSet.getColumnNames(), mapper).apply(results.get(0));
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.Query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU-cache of SQL rendered by jOOQ. The cache is keyed by the structural shape of a query, which is
+ * only known for queries created by the <code>VertxDAOHelper</code>. All other queries are rendered on every call.
+ * The default instance is shared by all <code>AsyncJooqSQLClient</code>-implementations.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class SQLRenderCache {
+
+    public static final int DEFAULT_MAX_SIZE = 512;
+
+    private static final SQLRenderCache INSTANCE = new SQLRenderCache(DEFAULT_MAX_SIZE);
+
+    public static SQLRenderCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<Object,String> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SQLRenderCache(int maxSize) {
+        Arguments.require(maxSize > 0, "maxSize must be greater than 0");
+        this.cache = new LinkedHashMap<Object, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param query a jOOQ-query
+     * @return the SQL of the given query, taken from the cache if the shape of the query is known.
+     */
+    public String getSQL(Query query){
+        if(!(query instanceof ShapedQuery)){
+            return query.getSQL();
+        }
+        Object shape = ((ShapedQuery) query).shape();
+        String sql;
+        synchronized (cache){
+            sql = cache.get(shape);
+        }
+        if(sql != null){
+            hits.incrementAndGet();
+            return sql;
+        }
+        misses.incrementAndGet();
+        sql = query.getSQL();
+        synchronized (cache){
+            cache.put(shape, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * @return the number of shaped queries whose SQL has been taken from the cache.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of shaped queries that had to be rendered.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the share of shaped queries whose SQL has been taken from the cache or 0 if there has been none yet.
+     */
+    public double hitRatio() {
+        long hits = this.hits.get();
+        long total = hits + misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return the number of cached statements.
+     */
+    public int size() {
+        synchronized (cache){
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cached statements and resets the counters.
+     */
+    public void clear() {
+        synchronized (cache){
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+}
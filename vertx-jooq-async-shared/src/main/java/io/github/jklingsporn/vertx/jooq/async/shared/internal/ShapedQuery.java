@@ -0,0 +1,159 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import org.jooq.Configuration;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.SettingsTools;
+import org.jooq.exception.DataAccessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * A <code>Query</code> that knows its structural shape: all queries with an equal shape render the same SQL
+ * and only differ in their bind values. Every call is delegated to the wrapped query.
+ * Only meant to be used by vertx-jooq-async.
+ */
+final class ShapedQuery implements Query {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Query delegate;
+    private final List<Object> shape;
+
+    private ShapedQuery(Query delegate, List<Object> shape) {
+        this.delegate = delegate;
+        this.shape = shape;
+    }
+
+    /**
+     * @param configuration the configuration the query is rendered with.
+     * @param query the query.
+     * @param shape the values describing the structure of the query, e.g. the table and the type of operation.
+     * @return a query whose SQL can be cached by the {@link SQLRenderCache}. If the configuration renders
+     * inlined bind values, the query is returned unchanged.
+     */
+    static Query of(Configuration configuration, Query query, Object... shape){
+        if(!SettingsTools.executePreparedStatements(configuration.settings())){
+            return query;
+        }
+        List<Object> key = new ArrayList<>(shape.length + 1);
+        key.add(configuration);
+        key.addAll(Arrays.asList(shape));
+        return new ShapedQuery(query, key);
+    }
+
+    Object shape() {
+        return shape;
+    }
+
+    Query delegate() {
+        return delegate;
+    }
+
+    @Override
+    public int execute() throws DataAccessException {
+        return delegate.execute();
+    }
+
+    @Override
+    public CompletionStage<Integer> executeAsync() {
+        return delegate.executeAsync();
+    }
+
+    @Override
+    public CompletionStage<Integer> executeAsync(Executor executor) {
+        return delegate.executeAsync(executor);
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return delegate.isExecutable();
+    }
+
+    @Override
+    public String getSQL() {
+        return delegate.getSQL();
+    }
+
+    @Override
+    @Deprecated
+    public String getSQL(boolean inline) {
+        return delegate.getSQL(inline);
+    }
+
+    @Override
+    public String getSQL(ParamType paramType) {
+        return delegate.getSQL(paramType);
+    }
+
+    @Override
+    public List<Object> getBindValues() {
+        return delegate.getBindValues();
+    }
+
+    @Override
+    public Map<String, Param<?>> getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    public Param<?> getParam(String name) {
+        return delegate.getParam(name);
+    }
+
+    @Override
+    public Query bind(String param, Object value) {
+        return delegate.bind(param, value);
+    }
+
+    @Override
+    public Query bind(int index, Object value) {
+        return delegate.bind(index, value);
+    }
+
+    @Override
+    public Query queryTimeout(int timeout) {
+        return delegate.queryTimeout(timeout);
+    }
+
+    @Override
+    public Query keepStatement(boolean keepStatement) {
+        return delegate.keepStatement(keepStatement);
+    }
+
+    @Override
+    public void close() throws DataAccessException {
+        delegate.close();
+    }
+
+    @Override
+    public void cancel() throws DataAccessException {
+        delegate.cancel();
+    }
+
+    @Override
+    public void attach(Configuration configuration) {
+        delegate.attach(configuration);
+    }
+
+    @Override
+    public void detach() {
+        delegate.detach();
+    }
+
+    @Override
+    public Configuration configuration() {
+        return delegate.configuration();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
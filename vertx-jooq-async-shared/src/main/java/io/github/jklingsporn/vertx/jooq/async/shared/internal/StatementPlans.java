@@ -0,0 +1,87 @@
+package io.github.jklingsporn.vertx.jooq.async.shared.internal;
+
+import org.jooq.*;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The SQL of the primary key based operations of a DAO, rendered by the code generator for a specific dialect.
+ * When the plans match the configuration of a DAO, the <code>VertxDAOHelper</code> uses them instead of building
+ * and rendering a jOOQ-query on every call.
+ * Only meant to be used by vertx-jooq-async.
+ */
+public class StatementPlans {
+
+    private final SQLDialect family;
+    private final String findById;
+    private final String deleteById;
+    private final String count;
+
+    /**
+     * @param dialect the dialect the statements have been rendered for.
+     * @param findById the <code>SELECT</code> statement for a given primary key.
+     * @param deleteById the <code>DELETE</code> statement for a given primary key.
+     * @param count the <code>SELECT COUNT(*)</code> statement of the table.
+     */
+    public StatementPlans(SQLDialect dialect, String findById, String deleteById, String count) {
+        this.family = dialect.family();
+        this.findById = findById;
+        this.deleteById = deleteById;
+        this.count = count;
+    }
+
+    /**
+     * @param configuration the configuration of the DAO.
+     * @return <code>true</code> if the configuration renders the same SQL as the code generator did, e.g. it uses the
+     * same dialect and has no render mapping.
+     */
+    public boolean isApplicable(Configuration configuration){
+        Settings settings = configuration.settings();
+        return configuration.family() == family
+                && SettingsTools.executePreparedStatements(settings)
+                && settings.getRenderMapping() == null
+                && !Boolean.FALSE.equals(settings.isRenderSchema())
+                && (settings.getRenderNameStyle() == null || settings.getRenderNameStyle() == RenderNameStyle.QUOTED);
+    }
+
+    Query findById(Configuration configuration, TableField<?, ?>[] pk, Object id){
+        return new PlannedQuery(configuration, findById, bindPrimaryKey(pk, id));
+    }
+
+    Query deleteById(Configuration configuration, TableField<?, ?>[] pk, Object id){
+        return new PlannedQuery(configuration, deleteById, bindPrimaryKey(pk, id));
+    }
+
+    Query count(Configuration configuration){
+        return new PlannedQuery(configuration, count, new ArrayList<>(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Param<?>> bindPrimaryKey(TableField<?, ?>[] pk, Object id){
+        List<Param<?>> params = new ArrayList<>(pk.length);
+        if(pk.length == 1){
+            params.add(DSL.val(pk[0].getDataType().convert(id), (Field<Object>) pk[0]));
+        }else{
+            Record record = (Record) id;
+            for (int i = 0; i < pk.length; i++) {
+                params.add(DSL.val(pk[i].getDataType().convert(record.get(i)), (Field<Object>) pk[i]));
+            }
+        }
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementPlans{" +
+                "family=" + family +
+                ", findById='" + findById + '\'' +
+                ", deleteById='" + deleteById + '\'' +
+                ", count='" + count + '\'' +
+                '}';
+    }
+}
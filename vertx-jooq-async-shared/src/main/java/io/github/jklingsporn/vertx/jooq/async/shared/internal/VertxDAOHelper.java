@@ -1,14 +1,25 @@
 package io.github.jklingsporn.vertx.jooq.async.shared.internal;
 
+import io.github.jklingsporn.vertx.jooq.async.shared.DAOSettings;
+import io.github.jklingsporn.vertx.jooq.async.shared.Page;
+import io.github.jklingsporn.vertx.jooq.async.shared.PojoWriter;
+import io.github.jklingsporn.vertx.jooq.async.shared.RecordCopier;
 import io.github.jklingsporn.vertx.jooq.async.shared.VertxPojo;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 import org.jooq.*;
 import org.jooq.impl.DSL;
+import org.jooq.types.UByte;
+import org.jooq.types.UInteger;
+import org.jooq.types.ULong;
+import org.jooq.types.UShort;
 
+import java.lang.reflect.Array;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.jooq.impl.DSL.row;
 
@@ -24,6 +35,27 @@ public class VertxDAOHelper {
 
     static EnumSet<SQLDialect> INSERT_RETURNING_SUPPORT = EnumSet.of(SQLDialect.MYSQL,SQLDialect.MYSQL_5_7,SQLDialect.MYSQL_8_0);
 
+    /**
+     * The alias of the total number of records selected by the queries of <code>fetchPageWithTotalAsync</code>.
+     */
+    static final String TOTAL = "total";
+
+    /**
+     * The maximum number of bind values of a single statement supported by all dialects.
+     */
+    static final int MAX_BIND_VALUES = Short.MAX_VALUE;
+
+    /**
+     * The estimated size of a placeholder and the length and type information of a bind value.
+     */
+    private static final int BIND_VALUE_OVERHEAD = 4;
+
+    /**
+     * The primary key types whose range can be split by <code>partitionAsync</code>.
+     */
+    private static final Set<Class<?>> INTEGRAL_TYPES = new HashSet<>(Arrays.asList(Byte.class, Short.class, Integer.class,
+            Long.class, BigInteger.class, UByte.class, UShort.class, UInteger.class, ULong.class));
+
 
     @SuppressWarnings("unchecked")
     public static <R extends UpdatableRecord<R>,T,F> F applyConditionally(T id, Table<R> table, Function<Condition, F> function){
@@ -43,48 +75,826 @@ public class VertxDAOHelper {
         return function.apply(condition);
     }
 
+    /**
+     * Builds the query to fetch a record by its primary key. If the given <code>StatementPlans</code> match the
+     * configuration of the DAO, the SQL of the plans is used.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchOneByIdAsync(T id, DAO<R,P,T> dao, StatementPlans plans, Function<Query,F> function){
+        if(isPlanned(id, dao, plans)){
+            return function.apply(plans.findById(dao.configuration(), dao.getTable().getPrimaryKey().getFieldsArray(), id));
+        }
+        return applyConditionally(id, dao.getTable(), condition -> function.apply(
+                ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(condition), dao.getTable(), "fetchOneById")));
+    }
+
+    /**
+     * Builds a <code>SELECT 1 ... LIMIT 1</code> probing whether a record with the given primary key exists.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F existsByIdAsync(T id, DAO<R,P,T> dao, Function<Query,F> function){
+        return applyConditionally(id, dao.getTable(), condition -> function.apply(
+                ShapedQuery.of(dao.configuration(), existsQuery(dao, condition), dao.getTable(), "existsById")));
+    }
+
+    /**
+     * Builds a <code>SELECT 1 ... LIMIT 1</code> probing whether a record matching the given condition exists.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F existsAsync(Condition condition, DAO<R,P,T> dao, Function<Query,F> function){
+        return function.apply(existsQuery(dao, condition));
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Query existsQuery(DAO<R,P,T> dao, Condition condition){
+        return DSL.using(dao.configuration()).selectOne().from(dao.getTable()).where(condition).limit(1);
+    }
+
+    /**
+     * Builds the query fetching a unique record by the given condition. It is limited to two rows, which is enough to
+     * detect that the condition is not unique.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchOneAsync(Condition condition, DAO<R,P,T> dao, Function<Query,F> function){
+        return function.apply(DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(condition).limit(2));
+    }
+
+    /**
+     * Builds a query fetching a page of records ordered by the given fields using a keyset (seek) predicate: only records
+     * ordered after the given key are fetched, so the database does not have to skip the records of the previous pages.
+     * @param afterKey the values of the order fields of the last record of the previous page or <code>null</code> to
+     *                 fetch the first page.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchPageAsync(Condition condition, List<? extends SortField<?>> orderFields, Object[] afterKey, int limit,
+                                                                                         DAO<R,P,T> dao, Function<Query,F> function){
+        Arguments.require(!orderFields.isEmpty(), "orderFields must not be empty");
+        Arguments.require(afterKey == null || afterKey.length == orderFields.size(), "afterKey must contain a value for each order field");
+        Arguments.require(limit > 0, "limit must be greater than 0");
+        SelectSeekStepN<R> ordered = DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(condition)
+                .orderBy(orderFields.toArray(new SortField<?>[orderFields.size()]));
+        return function.apply(afterKey == null ? ordered.limit(limit) : ordered.seek(afterKey).limit(limit));
+    }
+
+    /**
+     * Builds a query fetching a page of records ordered by their primary key like
+     * {@link #fetchPageAsync(Condition, List, Object[], int, DAO, Function)}.
+     * @param afterId the primary key of the last record of the previous page or <code>null</code> to fetch the first page.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchPageAsync(Condition condition, T afterId, int limit, DAO<R,P,T> dao, Function<Query,F> function){
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        Object[] afterKey = afterId == null ? null : pk.length == 1 ? new Object[]{afterId} : ((Record) afterId).intoArray();
+        return fetchPageAsync(condition, primaryKeyOrder(pk), afterKey, limit, dao, function);
+    }
+
+    /**
+     * Builds the query fetching the next chunk of a scan over all records matching the condition in primary key order.
+     * The function also receives a function returning the primary key values of the last record of a chunk, which is
+     * the key the following chunk is fetched after. No cursor is held open between the chunks.
+     * @param afterKey the primary key values of the last record of the previous chunk or <code>null</code> to fetch
+     *                 the first chunk.
+     * @param copier the record copier generated for the DAO or <code>null</code>.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F scanAsync(Condition condition, Object[] afterKey, int batchSize, DAO<R,P,T> dao, RecordCopier<P,R> copier,
+                                                                                    BiFunction<Query,Function<List<P>,Object[]>,F> function){
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        return fetchPageAsync(condition, primaryKeyOrder(pk), afterKey, batchSize, dao, query -> function.apply(query, chunk -> {
+            R record = newRecord(chunk.get(chunk.size() - 1), dao, copier);
+            Object[] lastKey = new Object[pk.length];
+            for (int i = 0; i < pk.length; i++) {
+                lastKey[i] = record.get(pk[i]);
+            }
+            return lastKey;
+        }));
+    }
+
+    /**
+     * Builds the query fetching the smallest and the largest primary key of the records matching the condition. The
+     * function also receives a function splitting that range into at most <code>partitions</code> conditions of about
+     * the same width, each matching the given condition and a <code>BETWEEN</code> range of the primary key. No
+     * conditions are returned if no record matches. Only tables with a single integral primary key can be partitioned,
+     * because the ranges of other numeric keys could miss the keys between them.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F partitionAsync(Condition condition, int partitions, DAO<R,P,T> dao,
+                                                                                         BiFunction<Query,Function<JsonObject,List<Condition>>,F> function){
+        Arguments.require(partitions > 0, "partitions must be greater than 0");
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        Arguments.require(pk.length == 1 && INTEGRAL_TYPES.contains(pk[0].getType()), "only tables with a single integral primary key can be partitioned");
+        Field<Object> key = (Field<Object>) pk[0];
+        Query query = DSL.using(dao.configuration()).select(DSL.min(key).as("min"), DSL.max(key).as("max")).from(dao.getTable()).where(condition);
+        return function.apply(query, range -> {
+            Object minValue = range.getValue("min");
+            Object maxValue = range.getValue("max");
+            if(minValue == null || maxValue == null){
+                return Collections.emptyList();
+            }
+            //computed with BigInteger so wide BIGINT ranges cannot overflow
+            BigInteger min = new BigInteger(minValue.toString());
+            BigInteger max = new BigInteger(maxValue.toString());
+            BigInteger width = max.subtract(min).divide(BigInteger.valueOf(partitions)).add(BigInteger.ONE);
+            List<Condition> conditions = new ArrayList<>(partitions);
+            for (BigInteger from = min; ; from = from.add(width)) {
+                BigInteger to = max.subtract(from).compareTo(width) < 0 ? max : from.add(width).subtract(BigInteger.ONE);
+                conditions.add(condition.and(key.between(key.getDataType().convert(from), key.getDataType().convert(to))));
+                if(to.equals(max)){
+                    return conditions;
+                }
+            }
+        });
+    }
+
+    private static <R extends UpdatableRecord<R>> List<SortField<?>> primaryKeyOrder(TableField<R, ?>[] pk){
+        List<SortField<?>> orderFields = new ArrayList<>(pk.length);
+        for (TableField<R, ?> field : pk) {
+            orderFields.add(field.asc());
+        }
+        return orderFields;
+    }
+
+    /**
+     * Builds a query fetching the records with the given primary keys using <code>pk IN (...)</code> or a row value
+     * <code>IN</code> for composite keys. The function also receives a function indexing the fetched POJOs by their
+     * primary key. Composite keys are indexed as <code>Record</code>.
+     * @param copier the record copier generated for the DAO or <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchByIdsAsync(Collection<T> ids, DAO<R,P,T> dao, RecordCopier<P,R> copier,
+                                                                                          BiFunction<Query,Function<List<P>,Map<T,P>>,F> function){
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        Condition condition;
+        if (pk.length == 1) {
+            condition = ((Field<Object>) pk[0]).in(ids.stream().map(pk[0].getDataType()::convert).collect(Collectors.toList()));
+        }
+        else {
+            condition = row(pk).in(ids.toArray(new Record[ids.size()]));
+        }
+        Query query = ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(condition), dao.getTable(), "fetchByIds", ids.size());
+        return function.apply(query, pojos -> {
+            Map<T,P> byId = new HashMap<>(pojos.size() * 2);
+            for (P pojo : pojos) {
+                R record = newRecord(pojo, dao, copier);
+                byId.put(pk.length == 1 ? (T) record.get(pk[0]) : (T) record.key(), pojo);
+            }
+            return byId;
+        });
+    }
 
+    /**
+     * Builds the queries fetching the records whose field matches one of the given values. Collections with more than
+     * <code>DAOSettings#getMaxInListSize</code> values are split into chunks of distinct values, each fetched by its
+     * own query. If <code>DAOSettings#isInListPadding</code> is set, each list is padded to the next power of two.
+     * On Postgres the values are bound as a single array using <code>= ANY(?)</code> instead.
+     * The function also receives the number of queries that may be executed concurrently.
+     */
     @SuppressWarnings("unchecked")
-    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F updateExecAsync(P object, DAO<R,P,T> dao, Function<Query,F> function){
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,Z,F> F fetchInAsync(Field<Z> field, Collection<Z> values, DAO<R,P,T> dao,
+                                                                                         BiFunction<List<Query>,Integer,F> function){
+        if(!values.isEmpty() && bindsArrays(dao.configuration())){
+            Condition condition = ((Field<Object>) field).eq(DSL.any(arrayParam(field, new ArrayList<>(values))));
+            return function.apply(Collections.singletonList(ShapedQuery.of(dao.configuration(),
+                    DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(condition), dao.getTable(), "fetchIn", field, "any")), 1);
+        }
+        DAOSettings settings = DAOSettings.of(dao.configuration());
+        if(values.isEmpty() || (values.size() <= settings.getMaxInListSize() && !settings.isInListPadding())){
+            return function.apply(Collections.singletonList(DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(field.in(values))), 1);
+        }
+        List<Z> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<Query> queries = new ArrayList<>(distinct.size() / settings.getMaxInListSize() + 1);
+        for (int from = 0; from < distinct.size(); from += settings.getMaxInListSize()) {
+            List<Z> chunk = distinct.subList(from, Math.min(distinct.size(), from + settings.getMaxInListSize()));
+            if(settings.isInListPadding()){
+                chunk = padInList(chunk, settings.getMaxInListSize());
+            }
+            queries.add(ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).selectFrom(dao.getTable()).where(field.in(chunk)),
+                    dao.getTable(), "fetchIn", field, chunk.size()));
+        }
+        return function.apply(queries, settings.getMaxInListParallelism());
+    }
+
+    private static <Z> List<Z> padInList(List<Z> values, int maxSize){
+        int size = Integer.highestOneBit(values.size());
+        if(size < values.size()){
+            size <<= 1;
+        }
+        size = Math.min(size, maxSize);
+        if(size == values.size()){
+            return values;
+        }
+        List<Z> padded = new ArrayList<>(size);
+        padded.addAll(values);
+        Z last = values.get(values.size() - 1);
+        while(padded.size() < size){
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Builds the query to delete a record by its primary key. If the given <code>StatementPlans</code> match the
+     * configuration of the DAO, the SQL of the plans is used.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F deleteByIdAsync(T id, DAO<R,P,T> dao, StatementPlans plans, Function<Query,F> function){
+        if(isPlanned(id, dao, plans)){
+            return function.apply(plans.deleteById(dao.configuration(), dao.getTable().getPrimaryKey().getFieldsArray(), id));
+        }
+        return applyConditionally(id, dao.getTable(), condition -> function.apply(
+                ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).deleteFrom(dao.getTable()).where(condition), dao.getTable(), "deleteById")));
+    }
+
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> boolean isPlanned(T id, DAO<R,P,T> dao, StatementPlans plans){
+        //composite keys need a record to bind the values
+        return plans != null
+                && (id != null || dao.getTable().getPrimaryKey().getFields().size() == 1)
+                && plans.isApplicable(dao.configuration());
+    }
+
+    /**
+     * Updates all non-primary key columns of the POJO or, if it tracks its changes, only the changed columns.
+     * @param copier the record copier generated for the DAO or <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F updateExecAsync(P object, DAO<R,P,T> dao, RecordCopier<P,R> copier, Function<Query,F> function){
         DSLContext dslContext = DSL.using(dao.configuration());
         UniqueKey<R> pk = dao.getTable().getPrimaryKey();
-        R record = dslContext.newRecord(dao.getTable(), object);
+        R record = newRecord(object, dao, copier);
         Condition where = DSL.trueCondition();
         for (TableField<R,?> tableField : pk.getFields()) {
             //exclude primary keys from update
             record.changed(tableField,false);
             where = where.and(((TableField<R,Object>)tableField).eq(record.get(tableField)));
         }
+        BitSet changed = object.changedColumns();
+        if(changed != null && !changed.isEmpty()){
+            //only update the columns that have been set since the POJO has been fetched
+            Field<?>[] fields = record.fields();
+            for (TableField<R,?> tableField : pk.getFields()) {
+                changed.clear(record.fieldsRow().indexOf(tableField));
+            }
+            if(!changed.isEmpty()){
+                Map<Field<?>, Object> valuesToUpdate = new LinkedHashMap<>();
+                for (int i = changed.nextSetBit(0); i >= 0 && i < fields.length; i = changed.nextSetBit(i + 1)) {
+                    valuesToUpdate.put(fields[i], record.get(i));
+                }
+                return function.apply(ShapedQuery.of(dao.configuration(), dslContext.update(dao.getTable()).set(valuesToUpdate).where(where), dao.getTable(), "update", changed));
+            }
+        }
         Map<String, Object> valuesToUpdate =
                 Arrays.stream(record.fields())
                         .collect(HashMap::new, (m, f) -> m.put(f.getName(), f.getValue(record)), HashMap::putAll);
 
-        return function.apply(dslContext.update(dao.getTable()).set(valuesToUpdate).where(where));
+        return function.apply(ShapedQuery.of(dao.configuration(), dslContext.update(dao.getTable()).set(valuesToUpdate).where(where), dao.getTable(), "update"));
+    }
+
+    /**
+     * @param writer the writer of the bind values generated for the DAO or <code>null</code>.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertExecAsync(P object, DAO<R,P,T> dao, PojoWriter<P> writer, Function<Query,F> function){
+        Object[] values = bindValues(object, dao, writer);
+        return function.apply(ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).insertInto(dao.getTable(), dao.getTable().fields()).values(values), dao.getTable(), "insert"));
+    }
+
+    /**
+     * Splits the given POJOs into multi-row <code>INSERT</code>-statements. Each statement contains at most
+     * <code>DAOSettings#getMaxInsertRows</code> rows and its bind values are estimated to be at most
+     * <code>DAOSettings#getMaxInsertBytes</code> big. The function receives an empty list if there are no POJOs.
+     * @param writer the writer of the bind values generated for the DAO or <code>null</code>.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertExecAsync(Collection<P> objects, DAO<R,P,T> dao, PojoWriter<P> writer, Function<List<Query>,F> function){
+        return function.apply(insertChunks(objects, dao, writer, rows -> insertRows(dao, rows)));
+    }
+
+    /**
+     * Copies the POJO into a new record like <code>DSLContext#newRecord(Table, Object)</code>: fields that are
+     * <code>null</code> but not nullable are marked unchanged, so the database can apply its default values.
+     * @param copier the record copier generated for the DAO or <code>null</code> to use jOOQ's reflective mapping.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> R newRecord(P object, DAO<R,P,T> dao, RecordCopier<P,R> copier){
+        DSLContext dslContext = DSL.using(dao.configuration());
+        if(copier == null){
+            return dslContext.newRecord(dao.getTable(), object);
+        }
+        R record = dslContext.newRecord(dao.getTable());
+        copier.copy(object, record);
+        for (Field<?> field : record.fields()) {
+            if(record.get(field) == null && !field.getDataType().nullable()){
+                record.changed(field, false);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * @return the values of the POJO in the order of the fields of the table. If the DAO has no generated
+     * writer, the POJO is copied into a record first.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Object[] bindValues(P object, DAO<R,P,T> dao, PojoWriter<P> writer){
+        if(writer == null){
+            return DSL.using(dao.configuration()).newRecord(dao.getTable(), object).intoArray();
+        }
+        Object[] values = new Object[dao.getTable().fieldsRow().size()];
+        writer.write(object, values);
+        return values;
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> List<Query> insertChunks(Collection<P> objects, DAO<R,P,T> dao, PojoWriter<P> writer, Function<List<Object[]>,Query> insertRows){
+        DAOSettings settings = DAOSettings.of(dao.configuration());
+        Field<?>[] fields = dao.getTable().fields();
+        int maxRows = Math.min(settings.getMaxInsertRows(), Math.max(1, MAX_BIND_VALUES / fields.length));
+        List<Query> queries = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        int bytes = 0;
+        for (P object : objects) {
+            Object[] values = bindValues(object, dao, writer);
+            int rowBytes = estimateSize(values, fields);
+            if(!rows.isEmpty() && (rows.size() == maxRows || bytes + rowBytes > settings.getMaxInsertBytes())){
+                queries.add(insertRows.apply(rows));
+                rows = new ArrayList<>();
+                bytes = 0;
+            }
+            rows.add(values);
+            bytes += rowBytes;
+        }
+        if(!rows.isEmpty()){
+            queries.add(insertRows.apply(rows));
+        }
+        return queries;
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Query insertRows(DAO<R,P,T> dao, List<Object[]> rows){
+        return ShapedQuery.of(dao.configuration(), insertInto(dao, rows), dao.getTable(), "insertMany", shapeOf(dao, rows));
+    }
+
+    /**
+     * Inserts the given rows with a multi-row <code>VALUES</code> clause or, on Postgres, with
+     * <code>SELECT * FROM unnest(?, ?, ...)</code> binding one array per column. Primary key values that are
+     * <code>null</code> are generated by the database: their columns are left out of the arrays or, if only some rows
+     * lack a primary key value, the rows are inserted with <code>VALUES</code> and <code>DEFAULT</code> instead.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> InsertOnDuplicateStep<R> insertInto(DAO<R,P,T> dao, List<Object[]> rows){
+        Table<R> table = dao.getTable();
+        Field<?>[] fields = table.fields();
+        BitSet omitted = bindsArrays(dao.configuration()) ? omittedColumns(dao, rows) : null;
+        if(omitted != null){
+            List<Field<?>> inserted = new ArrayList<>(fields.length);
+            List<QueryPart> columns = new ArrayList<>(fields.length);
+            StringBuilder unnest = new StringBuilder("unnest(");
+            for (int i = 0; i < fields.length; i++) {
+                if(omitted.get(i)){
+                    continue;
+                }
+                List<Object> column = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    column.add(row[i]);
+                }
+                unnest.append(columns.isEmpty() ? "" : ", ").append('{').append(columns.size()).append('}');
+                inserted.add(fields[i]);
+                columns.add(arrayParam(fields[i], column));
+            }
+            unnest.append(')');
+            return DSL.using(dao.configuration()).insertInto(table, inserted)
+                    .select(DSL.selectFrom(DSL.table(unnest.toString(), columns.toArray(new QueryPart[columns.size()]))));
+        }
+        TableField<R, ?>[] pk = table.getPrimaryKey().getFieldsArray();
+        InsertValuesStepN<R> insert = DSL.using(dao.configuration()).insertInto(table, fields);
+        for (Object[] row : rows) {
+            Object[] values = row.clone();
+            for (TableField<R, ?> field : pk) {
+                int index = table.fieldsRow().indexOf(field);
+                if(values[index] == null){
+                    values[index] = DSL.defaultValue(field);
+                }
+            }
+            insert = insert.values(values);
+        }
+        return insert;
+    }
+
+    /**
+     * @return the indexes of the primary key columns that are <code>null</code> in all rows and are left out of an
+     * array bound insert or <code>null</code> if some primary key column is <code>null</code> in some rows only.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> BitSet omittedColumns(DAO<R,P,T> dao, List<Object[]> rows){
+        Table<R> table = dao.getTable();
+        BitSet omitted = new BitSet();
+        for (TableField<R, ?> field : table.getPrimaryKey().getFields()) {
+            int index = table.fieldsRow().indexOf(field);
+            long nulls = rows.stream().filter(row -> row[index] == null).count();
+            if(nulls == rows.size()){
+                omitted.set(index);
+            }else if(nulls > 0){
+                return null;
+            }
+        }
+        return omitted;
+    }
+
+    /**
+     * @return the positions of the primary key values that are <code>null</code> and rendered as <code>DEFAULT</code>.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> BitSet defaultValues(DAO<R,P,T> dao, List<Object[]> rows){
+        Table<R> table = dao.getTable();
+        TableField<R, ?>[] pk = table.getPrimaryKey().getFieldsArray();
+        BitSet defaults = new BitSet();
+        int bit = 0;
+        for (Object[] row : rows) {
+            for (TableField<R, ?> field : pk) {
+                if(row[table.fieldsRow().indexOf(field)] == null){
+                    defaults.set(bit);
+                }
+                bit++;
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * @return the part of the shape depending on the rows. Array bound rows render the same SQL for any number of rows
+     * and only the left out primary key columns matter, otherwise the primary key values rendered as
+     * <code>DEFAULT</code> matter as well.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Object shapeOf(DAO<R,P,T> dao, List<Object[]> rows){
+        BitSet omitted = bindsArrays(dao.configuration()) ? omittedColumns(dao, rows) : null;
+        if(omitted != null){
+            return Arrays.asList("unnest", omitted);
+        }
+        return Arrays.asList(rows.size(), defaultValues(dao, rows));
+    }
+
+    private static boolean bindsArrays(Configuration configuration){
+        return configuration.family() == SQLDialect.POSTGRES;
     }
 
-    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertExecAsync(P object, DAO<R,P,T> dao,Function<Query,F> function){
-        return function.apply(DSL.using(dao.configuration()).insertInto(dao.getTable()).values(object.toJson().getMap().values()));
+    /**
+     * @return a parameter binding the given values of the field as an array of its SQL data type.
+     */
+    @SuppressWarnings("unchecked")
+    private static Field<Object[]> arrayParam(Field<?> field, List<?> values){
+        Converter<Object, Object> converter = (Converter<Object, Object>) field.getConverter();
+        //the data type of a converted field has the user type
+        DataType<Object> dataType = field.getType() == converter.fromType()
+                ? (DataType<Object>) field.getDataType()
+                : DSL.getDataType((Class<Object>) converter.fromType());
+        Object[] array = (Object[]) Array.newInstance(dataType.getType(), values.size());
+        for (int i = 0; i < array.length; i++) {
+            array[i] = converter.to(values.get(i));
+        }
+        DataType<Object[]> arrayType = dataType.getArrayDataType();
+        return DSL.cast(DSL.val(array, arrayType), arrayType);
+    }
+
+    /**
+     * Builds an <code>INSERT</code> that updates all non-primary key columns of an existing row with the same
+     * primary key instead. It is rendered as <code>ON DUPLICATE KEY UPDATE</code> on MySQL and as
+     * <code>ON CONFLICT ... DO UPDATE</code> on Postgres.
+     * @param writer the writer of the bind values generated for the DAO or <code>null</code>.
+     * @throws UnsupportedOperationException if the dialect is not supported
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F upsertExecAsync(P object, DAO<R,P,T> dao, PojoWriter<P> writer, Function<Query,F> function){
+        return function.apply(upsertRows(dao, Collections.singletonList(bindValues(object, dao, writer))));
+    }
+
+    /**
+     * Splits the given POJOs into multi-row upserts like {@link #insertExecAsync(Collection, DAO, PojoWriter, Function)}.
+     * @param writer the writer of the bind values generated for the DAO or <code>null</code>.
+     * @throws UnsupportedOperationException if the dialect is not supported
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F upsertExecAsync(Collection<P> objects, DAO<R,P,T> dao, PojoWriter<P> writer, Function<List<Query>,F> function){
+        return function.apply(insertChunks(objects, dao, writer, rows -> upsertRows(dao, rows)));
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Query upsertRows(DAO<R,P,T> dao, List<Object[]> rows){
+        Table<R> table = dao.getTable();
+        SQLDialect family = dao.configuration().family();
+        boolean postgres = family == SQLDialect.POSTGRES;
+        if(!postgres && family != SQLDialect.MYSQL && family != SQLDialect.MARIADB){
+            throw new UnsupportedOperationException("Upsert not supported by " + dao.configuration().dialect());
+        }
+        InsertOnDuplicateStep<R> insert = insertInto(dao, rows);
+        List<TableField<R, ?>> pk = table.getPrimaryKey().getFields();
+        Map<Field<?>, Field<?>> updates = new LinkedHashMap<>();
+        for (Field<?> field : table.fields()) {
+            if(!pk.contains(field)){
+                //the value of the row that could not be inserted
+                updates.put(field, postgres
+                        ? DSL.field(DSL.name("excluded", field.getName()), field.getDataType())
+                        : DSL.field("values({0})", field.getDataType(), DSL.name(field.getName())));
+            }
+        }
+        Query upsert;
+        if(updates.isEmpty()){
+            upsert = insert.onDuplicateKeyIgnore();
+        }else if(postgres){
+            upsert = insert.onConflict(pk).doUpdate().set(updates);
+        }else{
+            upsert = insert.onDuplicateKeyUpdate().set(updates);
+        }
+        return ShapedQuery.of(dao.configuration(), upsert, table, "upsert", shapeOf(dao, rows));
     }
 
-    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F countAsync(DAO<R,P,T> dao,BiFunction<Query, Function<JsonObject, Optional<Object>>, F> function){
-        return function.apply(DSL.using(dao.configuration()).selectCount().from(dao.getTable()), json -> json.getMap().values().stream().findFirst());
+    /**
+     * Renders a multi-row <code>INSERT</code> returning the primary keys. Primary key values that are
+     * <code>null</code> are replaced by <code>DEFAULT</code>, so the database generates them.
+     * @param requireGenerated whether all primary key values have to be generated.
+     */
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Query insertRowsReturning(DAO<R,P,T> dao, List<Object[]> rows, boolean requireGenerated){
+        Table<R> table = dao.getTable();
+        TableField<R, ?>[] pk = table.getPrimaryKey().getFieldsArray();
+        InsertValuesStepN<R> insert = DSL.using(dao.configuration()).insertInto(table, table.fields());
+        BitSet generated = new BitSet();
+        int bit = 0;
+        for (Object[] values : rows) {
+            for (TableField<R, ?> field : pk) {
+                int index = table.fieldsRow().indexOf(field);
+                if(values[index] == null){
+                    values[index] = DSL.defaultValue(field);
+                    generated.set(bit);
+                }
+                bit++;
+            }
+            insert = insert.values(values);
+        }
+        Arguments.require(!requireGenerated || generated.cardinality() == bit, "Primary keys have to be generated by the database");
+        return ShapedQuery.of(dao.configuration(), insert.returning(pk), table, "insertManyReturning", rows.size(), generated);
     }
 
+    /**
+     * @return the estimated size of the bind values of a row in bytes.
+     */
     @SuppressWarnings("unchecked")
-    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningPrimaryAsync(P object, DAO<R,P,T> dao,BiFunction<Query,Function<Long,T>,F> function){
-        Arguments.require(INSERT_RETURNING_SUPPORT.contains(dao.configuration().dialect()), "Only MySQL supported");
-        UniqueKey<?> key = dao.getTable().getPrimaryKey();
-        TableField<? extends Record, ?> tableField = key.getFieldsArray()[0];
-        Function<Long,T> keyConverter = lastId -> {
-            T checkedResult;
-            if(tableField.getType().equals(Integer.class)){
-                checkedResult = (T) Integer.valueOf(lastId.intValue());
-            }else{
-                checkedResult = (T) lastId;
-            }
-            return checkedResult;
-        };
+    static int estimateSize(Object[] values, Field<?>[] fields){
+        int size = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = ((Converter<Object, Object>) fields[i].getConverter()).to(values[i]);
+            size += BIND_VALUE_OVERHEAD + estimateSize(value);
+        }
+        return size;
+    }
+
+    private static int estimateSize(Object value){
+        if(value == null){
+            return 0;
+        }else if(value instanceof CharSequence){
+            CharSequence chars = (CharSequence) value;
+            int size = 0;
+            for (int i = 0; i < chars.length(); i++) {
+                char c = chars.charAt(i);
+                //UTF-8 encoded length, surrogate pairs are counted with 3 bytes per char
+                size += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            }
+            return size;
+        }else if(value instanceof byte[]){
+            return ((byte[]) value).length;
+        }else if(value instanceof Number || value instanceof Boolean){
+            return 8;
+        }
+        return value.toString().length();
+    }
+
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F countAsync(DAO<R,P,T> dao, StatementPlans plans, BiFunction<Query, Function<JsonObject, Optional<Object>>, F> function){
+        if(plans != null && plans.isApplicable(dao.configuration())){
+            return function.apply(plans.count(dao.configuration()), json -> json.getMap().values().stream().findFirst());
+        }
+        return function.apply(ShapedQuery.of(dao.configuration(), DSL.using(dao.configuration()).selectCount().from(dao.getTable()), dao.getTable(), "count"), json -> json.getMap().values().stream().findFirst());
+    }
+
+    /**
+     * Builds the query counting the records matching the given condition.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F countAsync(Condition condition, DAO<R,P,T> dao, BiFunction<Query, Function<JsonObject, Optional<Object>>, F> function){
+        return function.apply(DSL.using(dao.configuration()).selectCount().from(dao.getTable()).where(condition), json -> json.getMap().values().stream().findFirst());
+    }
+
+    /**
+     * Builds the query estimating the number of records of the table from the statistics of the database catalog:
+     * <code>information_schema.TABLES.TABLE_ROWS</code> on MySQL and <code>pg_class.reltuples</code> on Postgres.
+     * The estimate is empty if the catalog has no statistics of the table.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F countApproxAsync(DAO<R,P,T> dao, BiFunction<Query, Function<JsonObject, Optional<Long>>, F> function){
+        Table<R> table = dao.getTable();
+        Field<String> schema = table.getSchema() == null || table.getSchema().getName().isEmpty()
+                ? DSL.currentSchema()
+                : DSL.val(table.getSchema().getName());
+        String sql;
+        switch (dao.configuration().family()){
+            case MYSQL:
+                sql = "select max(TABLE_ROWS) as " + TOTAL + " from information_schema.TABLES where TABLE_SCHEMA = {0} and TABLE_NAME = {1}";
+                break;
+            case POSTGRES:
+                sql = "select max(c.reltuples) as " + TOTAL + " from pg_class c join pg_namespace n on n.oid = c.relnamespace where n.nspname = {0} and c.relname = {1}";
+                break;
+            default:
+                throw new UnsupportedOperationException("Approximate counts are not supported for " + dao.configuration().dialect());
+        }
+        return function.apply(DSL.using(dao.configuration()).resultQuery(sql, schema, DSL.val(table.getName())),
+                json -> Optional.ofNullable(json.getLong(TOTAL)).filter(estimate -> estimate >= 0));
+    }
+
+    /**
+     * @return the approximate count of the table cached by {@link #cacheApproxCount(DAO, long)} or <code>null</code>
+     * if there is none or it has expired.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Long cachedApproxCount(DAO<R,P,T> dao){
+        return RowCountCache.of(dao.configuration()).get(rowCountKey(dao));
+    }
+
+    /**
+     * @return whether the records of the table should be counted exactly because there is no estimate or it is below
+     * <code>DAOSettings#getExactCountThreshold</code>.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T> boolean requiresExactCount(DAO<R,P,T> dao, Optional<Long> estimate){
+        return !estimate.isPresent() || estimate.get() < DAOSettings.of(dao.configuration()).getExactCountThreshold();
+    }
+
+    /**
+     * Caches the count of the table in the <code>RowCountCache</code> of the DAO's configuration for
+     * <code>DAOSettings#getApproxCountTtlMillis</code>.
+     * @return the given count
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T> long cacheApproxCount(DAO<R,P,T> dao, long count){
+        RowCountCache.of(dao.configuration()).put(rowCountKey(dao), count, DAOSettings.of(dao.configuration()).getApproxCountTtlMillis());
+        return count;
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Object rowCountKey(DAO<R,P,T> dao){
+        Schema schema = dao.getTable().getSchema();
+        return Arrays.asList(schema == null ? null : schema.getName(), dao.getTable().getName());
+    }
+
+    /**
+     * Builds the query fetching a page of records together with the total number of records matching the condition.
+     * On Postgres and MySQL 8 the total is selected with every row as <code>COUNT(*) OVER()</code>. On other MySQL
+     * dialects and MariaDB the query is marked with <code>SQL_CALC_FOUND_ROWS</code>. The function also receives a function returning the
+     * query to run after the page query on the same connection for the fetched rows or <code>null</code> if the total
+     * is already known: <code>SELECT FOUND_ROWS()</code>, or a count query if the page is empty because its offset
+     * is beyond the last record. Use {@link #toPage(List, JsonObject, Function)} to build the page.
+     * @throws UnsupportedOperationException if the dialect is neither Postgres, MySQL nor MariaDB.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F fetchPageWithTotalAsync(Condition condition, List<? extends SortField<?>> orderFields, int limit, int offset,
+                                                                                                  DAO<R,P,T> dao, BiFunction<Query,Function<List<JsonObject>,Query>,F> function){
+        Arguments.require(limit > 0, "limit must be greater than 0");
+        Arguments.require(offset >= 0, "offset must not be negative");
+        DSLContext dsl = DSL.using(dao.configuration());
+        SortField<?>[] order = orderFields.toArray(new SortField<?>[orderFields.size()]);
+        if(countsOver(dao.configuration())){
+            List<Field<?>> fields = new ArrayList<>(Arrays.asList(dao.getTable().fields()));
+            fields.add(DSL.count().over().as(TOTAL));
+            Query query = dsl.select(fields).from(dao.getTable()).where(condition).orderBy(order).limit(limit).offset(offset);
+            return function.apply(query, rows -> rows.isEmpty() && offset > 0
+                    ? dsl.select(DSL.count().as(TOTAL)).from(dao.getTable()).where(condition)
+                    : null);
+        }
+        SQLDialect family = dao.configuration().family();
+        if(family != SQLDialect.MYSQL && family != SQLDialect.MARIADB){
+            throw new UnsupportedOperationException("Pages with total are not supported for " + dao.configuration().dialect());
+        }
+        Query query = dsl.select(dao.getTable().fields()).hint("SQL_CALC_FOUND_ROWS").from(dao.getTable()).where(condition).orderBy(order).limit(limit).offset(offset);
+        return function.apply(query, rows -> dsl.select(DSL.field("FOUND_ROWS()", Long.class).as(TOTAL)));
+    }
+
+    /**
+     * Builds the page of the rows fetched by the page query of
+     * {@link #fetchPageWithTotalAsync(Condition, List, int, int, DAO, BiFunction)}.
+     * @param total the result of the total query or <code>null</code> if none has been executed.
+     */
+    public static <P> Page<P> toPage(List<JsonObject> rows, JsonObject total, Function<JsonObject,P> mapper){
+        long count = total != null ? total.getLong(TOTAL) : rows.isEmpty() ? 0 : rows.get(0).getLong(TOTAL);
+        return new Page<>(rows.stream().map(mapper).collect(Collectors.toList()), count);
+    }
+
+    /**
+     * MySQL supports window functions only since 8.0, so the dialects of older or unspecified versions of the MySQL
+     * family use <code>FOUND_ROWS()</code>. The same applies to MariaDB, whose dialect does not carry a version.
+     */
+    private static boolean countsOver(Configuration configuration){
+        return configuration.family() == SQLDialect.POSTGRES || configuration.dialect() == SQLDialect.MYSQL_8_0;
+    }
+
+    /**
+     * @return whether the dialect of the configuration supports <code>INSERT ... RETURNING</code>.
+     */
+    public static boolean supportsReturning(Configuration configuration){
+        return configuration.family() == SQLDialect.POSTGRES;
+    }
+
+    /**
+     * Builds an <code>INSERT</code> returning the primary key of the inserted record. If the dialect supports
+     * <code>RETURNING</code>, the key is read from the returned row and can be of any type. Otherwise the last
+     * generated id is used, which is only supported by MySQL for single keys of type int or long. Primary key
+     * values that are <code>null</code> are not inserted, so the database can generate them.
+     * @param lastIdFunction the function executing the query if the last generated id is used
+     * @param returningFunction the function executing the query if the key is returned by the query
+     * @param copier the record copier generated for the DAO or <code>null</code>.
+     * @throws UnsupportedOperationException if neither is supported for the dialect and key of the DAO
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningPrimaryAsync(P object, DAO<R,P,T> dao, RecordCopier<P,R> copier,
+                                                                                                      BiFunction<Query,Function<Long,T>,F> lastIdFunction,
+                                                                                                      BiFunction<Query,Function<JsonObject,T>,F> returningFunction){
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        if(supportsReturning(dao.configuration())){
+            return returningFunction.apply(insertReturning(object, dao, copier, pk), json -> toKey(json, pk, dao.configuration()));
+        }
+        Function<Long,T> keyConverter = lastIdConverter(dao);
+        return lastIdFunction.apply(insertReturning(object, dao, copier, pk), keyConverter);
+    }
+
+    /**
+     * Like {@link #insertReturningPrimaryAsync(VertxPojo, DAO, RecordCopier, BiFunction, BiFunction)} for DAOs without a
+     * generated copier.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningPrimaryAsync(P object, DAO<R,P,T> dao,
+                                                                                                      BiFunction<Query,Function<Long,T>,F> lastIdFunction,
+                                                                                                      BiFunction<Query,Function<JsonObject,T>,F> returningFunction){
+        return insertReturningPrimaryAsync(object, dao, null, lastIdFunction, returningFunction);
+    }
+
+    /**
+     * Splits the given POJOs into multi-row <code>INSERT</code>-statements like
+     * {@link #insertExecAsync(Collection, DAO, PojoWriter, Function)} which return the primary keys of the inserted rows in the
+     * order of the POJOs. If the dialect supports <code>RETURNING</code>, the keys are read from the returned rows.
+     * Otherwise the keys are computed from the first generated id by the <code>lastIdFunction</code>, so all keys have
+     * to be generated by the database.
+     * @param writer the writer of the bind values generated for the DAO or <code>null</code>.
+     * @throws UnsupportedOperationException if neither is supported for the dialect and key of the DAO
+     * @throws IllegalArgumentException if keys are computed and a POJO contains a primary key
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningPrimaryAsync(Collection<P> objects, DAO<R,P,T> dao, PojoWriter<P> writer,
+                                                                                                      BiFunction<List<Query>,Function<Long,T>,F> lastIdFunction,
+                                                                                                      BiFunction<List<Query>,Function<JsonObject,T>,F> returningFunction){
+        if(supportsReturning(dao.configuration())){
+            TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+            return returningFunction.apply(insertChunks(objects, dao, writer, rows -> insertRowsReturning(dao, rows, false)), json -> toKey(json, pk, dao.configuration()));
+        }
+        Function<Long,T> keyConverter = lastIdConverter(dao);
+        return lastIdFunction.apply(insertChunks(objects, dao, writer, rows -> insertRowsReturning(dao, rows, true)), keyConverter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Function<Long,T> lastIdConverter(DAO<R,P,T> dao){
+        if(!INSERT_RETURNING_SUPPORT.contains(dao.configuration().dialect())){
+            throw new UnsupportedOperationException("Dialect not supported: " + dao.configuration().dialect());
+        }
+        TableField<R, ?>[] pk = dao.getTable().getPrimaryKey().getFieldsArray();
+        if(pk.length != 1){
+            throw new UnsupportedOperationException("More than one PK column");
+        }
+        if(pk[0].getType().equals(Integer.class)){
+            return lastId -> (T) Integer.valueOf(lastId.intValue());
+        }else if(pk[0].getType().equals(Long.class)){
+            return lastId -> (T) lastId;
+        }
+        throw new UnsupportedOperationException("PK is not of type int or long");
+    }
+
+    /**
+     * Like {@link #insertReturningPrimaryAsync(Collection, DAO, PojoWriter, BiFunction, BiFunction)} for DAOs without a
+     * generated writer.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningPrimaryAsync(Collection<P> objects, DAO<R,P,T> dao,
+                                                                                                      BiFunction<List<Query>,Function<Long,T>,F> lastIdFunction,
+                                                                                                      BiFunction<List<Query>,Function<JsonObject,T>,F> returningFunction){
+        return insertReturningPrimaryAsync(objects, dao, null, lastIdFunction, returningFunction);
+    }
+
+    /**
+     * Builds an <code>INSERT</code> returning the complete inserted row, including values generated by the
+     * database.
+     * @param copier the record copier generated for the DAO or <code>null</code>.
+     * @throws UnsupportedOperationException if the dialect does not support <code>RETURNING</code>
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningAsync(P object, DAO<R,P,T> dao, RecordCopier<P,R> copier, Function<Query,F> function){
+        if(!supportsReturning(dao.configuration())){
+            throw new UnsupportedOperationException("RETURNING not supported by " + dao.configuration().dialect());
+        }
+        return function.apply(insertReturning(object, dao, copier, dao.getTable().fields()));
+    }
+
+    /**
+     * Like {@link #insertReturningAsync(VertxPojo, DAO, RecordCopier, Function)} for DAOs without a generated copier.
+     */
+    public static <P extends VertxPojo, R extends UpdatableRecord<R>,T,F> F insertReturningAsync(P object, DAO<R,P,T> dao, Function<Query,F> function){
+        return insertReturningAsync(object, dao, null, function);
+    }
+
+    private static <P extends VertxPojo, R extends UpdatableRecord<R>,T> Query insertReturning(P object, DAO<R,P,T> dao, RecordCopier<P,R> copier, Field<?>... returning){
         DSLContext dslContext = DSL.using(dao.configuration());
-        return function.apply(dslContext.insertInto(dao.getTable()).set(dslContext.newRecord(dao.getTable(), object)).returning(key.getFields()), keyConverter);
+        R record = newRecord(object, dao, copier);
+        for (TableField<R, ?> field : dao.getTable().getPrimaryKey().getFields()) {
+            if(record.get(field) == null){
+                record.changed(field, false);
+            }
+        }
+        return dslContext.insertInto(dao.getTable()).set(record).returning(returning);
+    }
+
+    /**
+     * @return the primary key contained in a returned row. Composite keys are returned as <code>Record</code>.
+     */
+    @SuppressWarnings("unchecked")
+    static <R extends Record,T> T toKey(JsonObject json, TableField<R, ?>[] pk, Configuration configuration){
+        if(pk.length == 1){
+            return (T) pk[0].getDataType().convert(json.getValue(pk[0].getName()));
+        }
+        Record key = DSL.using(configuration).newRecord(pk);
+        for (TableField<R, ?> field : pk) {
+            key.set((Field<Object>) field, field.getDataType().convert(json.getValue(field.getName())));
+        }
+        return (T) key;
     }
 }